@@ -0,0 +1,49 @@
+#!/usr/bin/env bash
+# Mide el tiempo desde que arranca la JVM hasta que se sirve la primera petición.
+#
+# Uso:
+#   ./mvnw -Pfaststart -DskipTests package
+#   DB_URL=... DB_USER=... DB_PASSWORD=... scripts/startup-benchmark.sh [iteraciones]
+#
+# Compara el jar normal con el perfil faststart (AOT + AppCDS + beans lazy).
+set -euo pipefail
+
+ITERATIONS="${1:-5}"
+PORT="${PORT:-8080}"
+URL="${PROBE_URL:-http://localhost:${PORT}/v1/api/roles/count}"
+TARGET="$(cd "$(dirname "$0")/.." && pwd)/target"
+JAR="$(ls "$TARGET"/minecraft-facts-api-*.jar | grep -v original | head -n 1)"
+FASTSTART_JAR="$TARGET/faststart/$(basename "$JAR")"
+
+now_ms() { date +%s%3N; }
+
+measure() {
+  local label="$1"; shift
+  local total=0
+  local results=()
+  for i in $(seq 1 "$ITERATIONS"); do
+    local start; start=$(now_ms)
+    "$@" --server.port="$PORT" > /dev/null 2>&1 &
+    local pid=$!
+    until curl -s -o /dev/null "$URL"; do
+      if ! kill -0 "$pid" 2>/dev/null; then echo "$label: la aplicación terminó antes de responder" >&2; exit 1; fi
+      sleep 0.02
+    done
+    local elapsed=$(( $(now_ms) - start ))
+    kill "$pid"; wait "$pid" 2>/dev/null || true
+    results+=("$elapsed")
+    total=$(( total + elapsed ))
+  done
+  local sorted; sorted=$(printf '%s\n' "${results[@]}" | sort -n)
+  local median; median=$(echo "$sorted" | sed -n "$(( (ITERATIONS + 1) / 2 ))p")
+  printf '%-10s median=%5d ms  avg=%5d ms  runs=[%s]\n' "$label" "$median" $(( total / ITERATIONS )) "$(echo "$sorted" | paste -sd, -)"
+}
+
+measure "default" java -jar "$JAR"
+
+if [[ -f "$FASTSTART_JAR" ]]; then
+  (cd "$TARGET/faststart" && measure "faststart" java -XX:SharedArchiveFile=application.jsa \
+      -Dspring.aot.enabled=true -Dspring.profiles.active=faststart -jar "$FASTSTART_JAR")
+else
+  echo "faststart: no encontrado; ejecuta ./mvnw -Pfaststart package" >&2
+fi
@@ -0,0 +1,85 @@
+package io.github.haroldbaes17.minecraftfacts.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import io.github.haroldbaes17.minecraftfacts.dto.RoleDTO.BulkDeleteDeleted;
+import io.github.haroldbaes17.minecraftfacts.dto.RoleDTO.BulkDeleteRolesResponse;
+import io.github.haroldbaes17.minecraftfacts.dto.RoleDTO.BulkDeleteSkipped;
+import io.github.haroldbaes17.minecraftfacts.dto.RoleDTO.RoleResponse;
+import io.github.haroldbaes17.minecraftfacts.dto.UserSummaryDTO;
+import io.github.haroldbaes17.minecraftfacts.model.User;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialización de los DTOs más usados con y sin Blackbird, escribiendo en un stream como hace
+ * el message converter. Con {@code -prof gc} muestra los bytes asignados por respuesta.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DtoSerializationBenchmark {
+
+    @Param({"reflection", "blackbird"})
+    public String mapper;
+
+    private ObjectWriter writer;
+    private List<User> users;
+    private List<RoleResponse> roles;
+    private BulkDeleteRolesResponse bulkDelete;
+    private final OutputStream sink = OutputStream.nullOutputStream();
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        if ("blackbird".equals(mapper)) objectMapper.registerModule(new BlackbirdModule());
+        writer = objectMapper.writer();
+
+        users = new ArrayList<>();
+        roles = new ArrayList<>();
+        List<BulkDeleteDeleted> deleted = new ArrayList<>();
+        List<BulkDeleteSkipped> skipped = new ArrayList<>();
+        for (long i = 1; i <= 20; i++) {
+            User user = new User();
+            user.setId(i);
+            user.setUsername("player" + i);
+            user.setEmail("player" + i + "@example.com");
+            user.setEnabled(true);
+            user.setCreatedAt(Instant.parse("2025-01-01T00:00:00Z"));
+            user.setUpdatedAt(Instant.parse("2025-06-01T00:00:00Z"));
+            users.add(user);
+
+            roles.add(new RoleResponse(i, "ROLE_BENCH_" + i, "Role " + i, false, null));
+            deleted.add(new BulkDeleteDeleted(i, "ROLE_BENCH_" + i));
+            skipped.add(new BulkDeleteSkipped(i + 100, "ROLE_USED_" + i, "Role in use"));
+        }
+        bulkDelete = new BulkDeleteRolesResponse(40, 20, deleted, skipped);
+    }
+
+    // Incluye el mapeo entidad -> DTO, que también se hace por fila
+    @Benchmark
+    public void userPage() throws IOException {
+        writer.writeValue(sink, users.stream().map(UserSummaryDTO::fromEntity).toList());
+    }
+
+    @Benchmark
+    public void roleList() throws IOException {
+        writer.writeValue(sink, roles);
+    }
+
+    @Benchmark
+    public void bulkDeleteResponse() throws IOException {
+        writer.writeValue(sink, bulkDelete);
+    }
+}
@@ -0,0 +1,153 @@
+package io.github.haroldbaes17.minecraftfacts.benchmark;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara las consultas de {@code RoleService} con el driver por defecto y con las propiedades de
+ * {@code application-prod.properties}.
+ * <p>
+ * Necesita una BD con datos (DB_URL, DB_USER, DB_PASSWORD):
+ * {@code ./mvnw -Pbenchmark test-compile exec:exec}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Threads(4)
+public class RoleQueryBenchmark {
+
+    private static final String DRIVER_PREFIX = "spring.datasource.hikari.data-source-properties.";
+
+    // Mismo SQL que genera Hibernate para RoleRepository (filtro activeOnly incluido)
+    private static final String FIND_BY_NAME_SQL =
+            "select r.id, r.deleted, r.description, r.name from roles r where r.deleted = false and r.name = ?";
+    private static final String FIND_BY_IDS_SQL =
+            "select r.id, r.deleted, r.description, r.name from roles r where r.id in (%s)";
+    private static final String SEARCH_SQL = "select r.id, r.deleted, r.description, r.name from roles r "
+            + "where r.deleted = false and (upper(r.name) like ? or upper(r.description) like ?) "
+            + "order by r.name limit ?, ?";
+
+    @Param({"default", "prod"})
+    public String driverProfile;
+
+    private HikariDataSource dataSource;
+    private List<String> names;
+    private List<Long> ids;
+    private String findByIdsSql;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(requiredEnv("DB_URL"));
+        config.setUsername(requiredEnv("DB_USER"));
+        config.setPassword(System.getenv("DB_PASSWORD"));
+        config.setMaximumPoolSize(4);
+        if ("prod".equals(driverProfile)) {
+            config.setDataSourceProperties(prodDriverProperties());
+        }
+        dataSource = new HikariDataSource(config);
+
+        names = new ArrayList<>();
+        ids = new ArrayList<>();
+        try (Connection c = dataSource.getConnection();
+             PreparedStatement ps = c.prepareStatement("select id, name from roles where deleted = false");
+             ResultSet rs = ps.executeQuery()) {
+            while (rs.next()) {
+                ids.add(rs.getLong(1));
+                names.add(rs.getString(2));
+            }
+        }
+        if (names.isEmpty()) throw new IllegalStateException("The roles table is empty");
+
+        // Bloque de 64 ids, como los que produce InClauseChunks
+        findByIdsSql = FIND_BY_IDS_SQL.formatted(String.join(",", Collections.nCopies(64, "?")));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        dataSource.close();
+    }
+
+    @Benchmark
+    public void findByName(Blackhole bh) throws SQLException {
+        String name = names.get(ThreadLocalRandom.current().nextInt(names.size()));
+        try (Connection c = dataSource.getConnection();
+             PreparedStatement ps = c.prepareStatement(FIND_BY_NAME_SQL)) {
+            ps.setString(1, name);
+            consume(ps, bh);
+        }
+    }
+
+    @Benchmark
+    public void findAllById(Blackhole bh) throws SQLException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        try (Connection c = dataSource.getConnection();
+             PreparedStatement ps = c.prepareStatement(findByIdsSql)) {
+            for (int i = 1; i <= 64; i++) {
+                ps.setLong(i, ids.get(random.nextInt(ids.size())));
+            }
+            consume(ps, bh);
+        }
+    }
+
+    @Benchmark
+    public void search(Blackhole bh) throws SQLException {
+        // Parte tras "ROLE_", como una búsqueda real desde el panel
+        String name = names.get(ThreadLocalRandom.current().nextInt(names.size()));
+        String q = "%" + name.substring(5, Math.min(name.length(), 8)) + "%";
+        try (Connection c = dataSource.getConnection();
+             PreparedStatement ps = c.prepareStatement(SEARCH_SQL)) {
+            ps.setString(1, q);
+            ps.setString(2, q);
+            ps.setInt(3, 0);
+            ps.setInt(4, 20);
+            consume(ps, bh);
+        }
+    }
+
+    private static void consume(PreparedStatement ps, Blackhole bh) throws SQLException {
+        try (ResultSet rs = ps.executeQuery()) {
+            while (rs.next()) {
+                bh.consume(rs.getLong(1));
+                bh.consume(rs.getString(4));
+            }
+        }
+    }
+
+    private static Properties prodDriverProperties() throws IOException {
+        Properties file = new Properties();
+        try (InputStream in = RoleQueryBenchmark.class.getResourceAsStream("/application-prod.properties")) {
+            if (in == null) throw new IllegalStateException("application-prod.properties not found");
+            file.load(in);
+        }
+        Properties driver = new Properties();
+        file.stringPropertyNames().stream()
+                .filter(key -> key.startsWith(DRIVER_PREFIX))
+                .forEach(key -> driver.setProperty(key.substring(DRIVER_PREFIX.length()), file.getProperty(key)));
+        return driver;
+    }
+
+    private static String requiredEnv(String name) {
+        String value = System.getenv(name);
+        if (value == null || value.isBlank()) throw new IllegalStateException(name + " is not set");
+        return value;
+    }
+}
@@ -0,0 +1,171 @@
+package io.github.haroldbaes17.minecraftfacts.loadtest;
+
+import java.sql.*;
+import java.time.Instant;
+import java.util.SplittableRandom;
+
+/**
+ * Genera roles, usuarios, categorías y datos curiosos con JDBC por lotes.
+ * <p>
+ * Los primeros {@code roles} roles reciben usuarios; los {@code spareRoles} siguientes quedan vacíos
+ * para que la simulación pueda borrarlos y restaurarlos en bulk.
+ */
+public class DataSeeder {
+
+    private static final int BATCH = 1000;
+
+    public record Volumes(int roles, int spareRoles, int users, int rolesPerUser, int categories, int facts,
+                          long seed) {
+        public static Volumes fromSystemProperties() {
+            return new Volumes(
+                    Integer.getInteger("loadtest.roles", 200),
+                    Integer.getInteger("loadtest.spare-roles", 50),
+                    Integer.getInteger("loadtest.users", 50_000),
+                    Integer.getInteger("loadtest.roles-per-user", 2),
+                    Integer.getInteger("loadtest.categories", 20),
+                    Integer.getInteger("loadtest.facts", 20_000),
+                    Long.getLong("loadtest.seed", 42L)
+            );
+        }
+    }
+
+    private final String url;
+    private final String user;
+    private final String password;
+    private final Volumes volumes;
+    private final SplittableRandom random;
+
+    public DataSeeder(String url, String user, String password, Volumes volumes) {
+        this.url = url;
+        this.user = user;
+        this.password = password;
+        this.volumes = volumes;
+        this.random = new SplittableRandom(volumes.seed());
+    }
+
+    public void seed() throws SQLException {
+        try (Connection c = DriverManager.getConnection(url, user, password)) {
+            c.setAutoCommit(false);
+            seedRoles(c);
+            seedUsers(c);
+            seedCategories(c);
+            seedFacts(c);
+            // Los contadores se recalculan igual que en la migración V6
+            try (Statement st = c.createStatement()) {
+                st.executeUpdate("insert into role_member_counts (role_id, member_count) "
+                        + "select r.id, (select count(*) from user_roles ur where ur.role_id = r.id) from roles r "
+                        + "on duplicate key update member_count = values(member_count)");
+            }
+            c.commit();
+        }
+        System.out.printf("Seeded %s%n", volumes);
+    }
+
+    private void seedRoles(Connection c) throws SQLException {
+        try (PreparedStatement ps = c.prepareStatement("insert into roles (name, description, deleted) values (?, ?, false)")) {
+            int total = volumes.roles() + volumes.spareRoles();
+            for (int i = 1; i <= total; i++) {
+                boolean spare = i > volumes.roles();
+                ps.setString(1, (spare ? "ROLE_SPARE_" : "ROLE_LT_") + letters(i));
+                ps.setString(2, spare ? "Rol sin usuarios para pruebas bulk" : "Rol de prueba de carga " + i);
+                ps.addBatch();
+                flushIfFull(ps, i);
+            }
+            ps.executeBatch();
+        }
+    }
+
+    private void seedUsers(Connection c) throws SQLException {
+        Timestamp now = Timestamp.from(Instant.now());
+        try (PreparedStatement users = c.prepareStatement("insert into users (username, email, username_normalized, "
+                + "email_normalized, password_hash, enabled, email_verified, created_at, updated_at) "
+                + "values (?, ?, ?, ?, ?, true, true, ?, ?)");
+             PreparedStatement userRoles = c.prepareStatement("insert ignore into user_roles (user_id, role_id) values (?, ?)")) {
+            for (int i = 1; i <= volumes.users(); i++) {
+                String username = "player" + i;
+                users.setString(1, username);
+                users.setString(2, username + "@loadtest.local");
+                users.setString(3, username);
+                users.setString(4, username + "@loadtest.local");
+                users.setString(5, "{noop}loadtest");
+                users.setTimestamp(6, now);
+                users.setTimestamp(7, now);
+                users.addBatch();
+
+                // Los ids de una tabla recién creada empiezan en 1 y son consecutivos
+                for (int r = 0; r < volumes.rolesPerUser(); r++) {
+                    userRoles.setLong(1, i);
+                    userRoles.setLong(2, skewedRoleId());
+                    userRoles.addBatch();
+                }
+                if (i % BATCH == 0) {
+                    users.executeBatch();
+                    userRoles.executeBatch();
+                }
+            }
+            users.executeBatch();
+            userRoles.executeBatch();
+        }
+    }
+
+    private void seedCategories(Connection c) throws SQLException {
+        try (PreparedStatement ps = c.prepareStatement("insert into categories (name, slug, description) values (?, ?, ?)")) {
+            for (int i = 1; i <= volumes.categories(); i++) {
+                ps.setString(1, "Categoría " + i);
+                ps.setString(2, "categoria-" + i);
+                ps.setString(3, "Categoría de prueba de carga");
+                ps.addBatch();
+            }
+            ps.executeBatch();
+        }
+    }
+
+    private void seedFacts(Connection c) throws SQLException {
+        Timestamp now = Timestamp.from(Instant.now());
+        try (PreparedStatement facts = c.prepareStatement("insert into facts (title, content, image_url, published, "
+                + "autor_id, created_at, updated_at, deleted) values (?, ?, ?, ?, ?, ?, ?, false)");
+             PreparedStatement categories = c.prepareStatement("insert ignore into fact_categories (fact_id, category_id) values (?, ?)")) {
+            for (int i = 1; i <= volumes.facts(); i++) {
+                facts.setString(1, "Dato curioso " + i);
+                facts.setString(2, "Contenido generado para la prueba de carga número " + i + ".");
+                facts.setString(3, "https://example.com/facts/" + i + ".png");
+                facts.setBoolean(4, random.nextInt(10) != 0);
+                facts.setLong(5, 1 + random.nextInt(volumes.users()));
+                facts.setTimestamp(6, now);
+                facts.setTimestamp(7, now);
+                facts.addBatch();
+
+                categories.setLong(1, i);
+                categories.setLong(2, 1 + random.nextInt(volumes.categories()));
+                categories.addBatch();
+                if (i % BATCH == 0) {
+                    facts.executeBatch();
+                    categories.executeBatch();
+                }
+            }
+            facts.executeBatch();
+            categories.executeBatch();
+        }
+    }
+
+    // Pocos roles con muchos miembros y muchos con pocos, como en producción
+    private long skewedRoleId() {
+        double u = random.nextDouble();
+        return 1 + (long) (volumes.roles() * u * u);
+    }
+
+    private static void flushIfFull(PreparedStatement ps, int i) throws SQLException {
+        if (i % BATCH == 0) ps.executeBatch();
+    }
+
+    // 1 -> A, 26 -> Z, 27 -> AA: los nombres de rol solo admiten letras y '_'
+    static String letters(int n) {
+        StringBuilder sb = new StringBuilder();
+        while (n > 0) {
+            n--;
+            sb.append((char) ('A' + n % 26));
+            n /= 26;
+        }
+        return sb.reverse().toString();
+    }
+}
@@ -0,0 +1,106 @@
+package io.github.haroldbaes17.minecraftfacts.loadtest;
+
+import io.gatling.javaapi.core.ChainBuilder;
+import io.gatling.javaapi.core.ScenarioBuilder;
+import io.gatling.javaapi.core.Simulation;
+import io.gatling.javaapi.http.HttpProtocolBuilder;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static io.gatling.javaapi.core.CoreDsl.*;
+import static io.gatling.javaapi.http.HttpDsl.http;
+import static io.gatling.javaapi.http.HttpDsl.status;
+
+/**
+ * Mezcla ponderada de lecturas, búsquedas y operaciones bulk de {@code RoleController}.
+ * <p>
+ * Propiedades: {@code baseUrl}, {@code rps} (usuarios nuevos por segundo), {@code durationSeconds},
+ * {@code p95Ms} / {@code p99Ms} (umbrales que hacen fallar la ejecución) y los volúmenes
+ * {@code loadtest.roles} / {@code loadtest.spare-roles} usados al sembrar los datos.
+ */
+public class RoleApiSimulation extends Simulation {
+
+    private static final String BASE_URL = System.getProperty("baseUrl", "http://localhost:8080/v1/api");
+    private static final int RPS = Integer.getInteger("rps", 50);
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("durationSeconds", 120));
+    private static final int ROLES = Integer.getInteger("loadtest.roles", 200);
+    private static final int SPARE_ROLES = Integer.getInteger("loadtest.spare-roles", 50);
+
+    private static final String[] SEARCH_TERMS = {"LT_A", "LT_B", "SPARE", "prueba", "carga", "ROLE_LT"};
+
+    private final Iterator<Map<String, Object>> feeder = Stream.generate(this::nextRecord).iterator();
+
+    private Map<String, Object> nextRecord() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String term = SEARCH_TERMS[random.nextInt(SEARCH_TERMS.length)];
+        return Map.of(
+                "roleId", 1 + random.nextInt(ROLES),
+                "page", random.nextInt(3),
+                "term", term,
+                "prefix", term.substring(0, Math.min(term.length(), 4)),
+                "roleIds", randomIds(random, 1, ROLES, 2 + random.nextInt(6)),
+                "spareIds", "[" + randomIds(random, ROLES + 1, ROLES + SPARE_ROLES, 10) + "]"
+        );
+    }
+
+    private static String randomIds(ThreadLocalRandom random, int from, int to, int count) {
+        return LongStream.generate(() -> random.nextLong(from, to + 1L))
+                .distinct()
+                .limit(Math.min(count, to - from + 1))
+                .mapToObj(Long::toString)
+                .collect(Collectors.joining(","));
+    }
+
+    private final HttpProtocolBuilder httpProtocol = http
+            .baseUrl(BASE_URL)
+            .acceptHeader("application/json")
+            .contentTypeHeader("application/json");
+
+    private final ChainBuilder findById = exec(http("findById")
+            .get("/roles/findById/#{roleId}").check(status().is(200)));
+    private final ChainBuilder findAll = exec(http("findAll")
+            .get("/roles/findAll").check(status().is(200)));
+    private final ChainBuilder search = exec(http("search")
+            .get("/roles/search?q=#{term}&page=#{page}&size=20").check(status().is(200)));
+    private final ChainBuilder autocomplete = exec(http("autocomplete")
+            .get("/roles/autocomplete?q=#{prefix}").check(status().is(200)));
+    private final ChainBuilder listUsersByRole = exec(http("listUsersByRole")
+            .get("/roles/listUsersByRole/#{roleId}?page=#{page}&size=20").check(status().is(200)));
+    private final ChainBuilder listUsersByRoles = exec(http("listUsersByRoles")
+            .get("/roles/listUsersByRoles?roleIds=#{roleIds}&page=#{page}&size=20").check(status().is(200)));
+    // Solo roles vacíos: se borran y se restauran para que los datos no cambien entre ejecuciones
+    private final ChainBuilder bulkDeleteRestore = exec(
+            http("bulkDelete").post("/roles/bulk/delete")
+                    .body(StringBody("{\"ids\": #{spareIds}}")).check(status().is(200)),
+            http("bulkRestore").post("/roles/bulk/restore")
+                    .body(StringBody("{\"ids\": #{spareIds}}")).check(status().is(200)));
+
+    private final ScenarioBuilder roles = scenario("RoleController mix")
+            .feed(feeder)
+            .randomSwitch().on(
+                    percent(30.0).then(findById),
+                    percent(10.0).then(findAll),
+                    percent(20.0).then(search),
+                    percent(15.0).then(autocomplete),
+                    percent(15.0).then(listUsersByRole),
+                    percent(6.0).then(listUsersByRoles),
+                    percent(4.0).then(bulkDeleteRestore)
+            );
+
+    {
+        setUp(roles.injectOpen(
+                rampUsersPerSec(1).to(RPS).during(Duration.ofSeconds(30)),
+                constantUsersPerSec(RPS).during(DURATION)))
+                .protocols(httpProtocol)
+                .assertions(
+                        global().responseTime().percentile(95.0).lt(Integer.getInteger("p95Ms", 250)),
+                        global().responseTime().percentile(99.0).lt(Integer.getInteger("p99Ms", 500)),
+                        global().successfulRequests().percent().gt(99.0));
+    }
+}
@@ -3,12 +3,17 @@ package io.github.haroldbaes17.minecraftfacts;
 import io.github.cdimascio.dotenv.Dotenv;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@ConfigurationPropertiesScan
+@EnableScheduling
 public class MinecraftFactsApplication {
 
     public static void main(String[] args) {
-        Dotenv dotenv = Dotenv.load();
+        // En contenedores las variables llegan por entorno y no hay .env
+        Dotenv dotenv = Dotenv.configure().ignoreIfMissing().load();
         dotenv.entries().forEach(e -> System.setProperty(e.getKey(), e.getValue()));
 
         SpringApplication.run(MinecraftFactsApplication.class, args);
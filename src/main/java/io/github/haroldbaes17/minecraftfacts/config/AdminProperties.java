@@ -0,0 +1,21 @@
+package io.github.haroldbaes17.minecraftfacts.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+@ConfigurationProperties(prefix = "admin")
+public record AdminProperties(
+        // Valor de la cabecera X-Admin-Token para las rutas de administración; vacío = rutas cerradas
+        @DefaultValue("") String token
+) {
+    public static final String HEADER = "X-Admin-Token";
+
+    // Comparación en tiempo constante
+    public boolean matches(String candidate) {
+        if (token == null || token.isBlank() || candidate == null) return false;
+        return MessageDigest.isEqual(token.getBytes(StandardCharsets.UTF_8), candidate.getBytes(StandardCharsets.UTF_8));
+    }
+}
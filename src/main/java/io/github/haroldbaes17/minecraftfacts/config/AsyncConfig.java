@@ -0,0 +1,51 @@
+package io.github.haroldbaes17.minecraftfacts.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.concurrent.Semaphore;
+
+@Configuration
+public class AsyncConfig {
+
+    // Executor acotado para jobs bulk: si la cola se llena, el job se rechaza en vez de acumularse
+    @Bean
+    public ThreadPoolTaskExecutor bulkJobExecutor(BulkJobProperties properties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("bulk-job-");
+        executor.setCorePoolSize(properties.threads());
+        executor.setMaxPoolSize(properties.threads());
+        executor.setQueueCapacity(properties.queueCapacity());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    // Envíos SSE: un hilo virtual por cliente con eventos pendientes, nunca el hilo que difunde
+    @Bean
+    public SimpleAsyncTaskExecutor sseSendExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("sse-send-");
+        executor.setVirtualThreads(true);
+        return executor;
+    }
+
+    // Bulkhead compartido por todas las peticiones de /roles/listUsersByRoles: como mucho
+    // maxParallelism consultas a la vez y nunca más de la mitad del pool, que queda para el resto
+    @Bean
+    public Semaphore roleUsersBulkhead(RoleUsersProperties properties, DataSource dataSource) {
+        int permits = properties.maxParallelism();
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                permits = Math.min(permits, dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize() / 2);
+            }
+        } catch (SQLException ignored) {
+            // Sin datos del pool se usa solo maxParallelism
+        }
+        return new Semaphore(Math.max(1, permits), true);
+    }
+}
@@ -0,0 +1,20 @@
+package io.github.haroldbaes17.minecraftfacts.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "bulk-jobs")
+public record BulkJobProperties(
+        // Ids procesados por transacción
+        @DefaultValue("500") int chunkSize,
+        // Hilos del executor; cada uno ocupa como mucho una conexión del pool a la vez
+        @DefaultValue("2") int threads,
+        // Jobs en espera antes de rechazar nuevos
+        @DefaultValue("20") int queueCapacity,
+        // Tiempo que se conserva el estado de un job terminado
+        @DefaultValue("1h") Duration retention,
+        @DefaultValue("1000") long maxJobs
+) {
+}
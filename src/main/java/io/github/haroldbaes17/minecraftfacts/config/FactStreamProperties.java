@@ -0,0 +1,17 @@
+package io.github.haroldbaes17.minecraftfacts.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "fact-stream")
+public record FactStreamProperties(
+        // Datos publicados que se conservan para reanudar con Last-Event-ID
+        @DefaultValue("1024") int bufferSize,
+        // Comentario keepalive; lo usa @Scheduled vía ${fact-stream.heartbeat}
+        @DefaultValue("30s") Duration heartbeat,
+        // Eventos pendientes de envío por cliente antes de desconectarlo
+        @DefaultValue("256") int maxQueuedPerClient
+) {
+}
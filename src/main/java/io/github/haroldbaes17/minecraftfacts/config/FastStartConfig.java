@@ -0,0 +1,45 @@
+package io.github.haroldbaes17.minecraftfacts.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+
+import java.util.List;
+
+/**
+ * Perfil {@code faststart}: marca como lazy los beans de administración listados en
+ * {@code faststart.lazy-beans}, que no hacen falta para servir tráfico normal, y permite omitir
+ * las migraciones en la ejecución de entrenamiento de AppCDS.
+ */
+@Configuration
+@Profile("faststart")
+public class FastStartConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(FastStartConfig.class);
+
+    // Con AOT, spring.flyway.enabled queda fijado al generar el artefacto; esta propiedad se lee al
+    // arrancar, así la ejecución de entrenamiento (-Dfaststart.skip-migrations=true) no abre conexión
+    @Bean
+    public FlywayMigrationStrategy faststartMigrationStrategy(Environment environment) {
+        return flyway -> {
+            if (environment.getProperty("faststart.skip-migrations", Boolean.class, false)) {
+                log.info("Skipping Flyway migrations (faststart.skip-migrations=true)");
+                return;
+            }
+            flyway.migrate();
+        };
+    }
+
+    @Bean
+    public static BeanFactoryPostProcessor lazyAdminBeans(Environment environment) {
+        List<String> names = List.of(environment.getProperty("faststart.lazy-beans", String[].class, new String[0]));
+        return beanFactory -> names.stream()
+                .filter(beanFactory::containsBeanDefinition)
+                .forEach(name -> beanFactory.getBeanDefinition(name).setLazyInit(true));
+    }
+}
@@ -0,0 +1,17 @@
+package io.github.haroldbaes17.minecraftfacts.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "health")
+public record HealthProperties(
+        // Una consulta correcta más reciente que esto basta como prueba de que la BD responde
+        @DefaultValue("15s") Duration dbFreshFor,
+        // Timeout de la conexión del pool de health (1 conexión, separado del principal)
+        @DefaultValue("2s") Duration dbProbeTimeout,
+        // Hilos esperando conexión a partir de los cuales el pool se informa como saturado
+        @DefaultValue("1") int poolSaturatedWaiters
+) {
+}
@@ -0,0 +1,53 @@
+package io.github.haroldbaes17.minecraftfacts.config;
+
+import io.github.haroldbaes17.minecraftfacts.listener.OutboxHibernateListener;
+import io.github.haroldbaes17.minecraftfacts.listener.RoleMemberCountListener;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.hibernate.jpa.boot.spi.JpaSettings;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * Registra listeners de eventos nativos de Hibernate (necesitan el estado anterior de la entidad
+ * o los eventos de colecciones, que los callbacks JPA no ofrecen).
+ */
+@Configuration
+public class HibernateListenerConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateListenersCustomizer(OutboxHibernateListener outboxListener,
+                                                                   RoleMemberCountListener roleMemberCountListener) {
+        Integrator integrator = new Integrator() {
+            @Override
+            public void integrate(Metadata metadata, BootstrapContext bootstrapContext,
+                                  SessionFactoryImplementor sessionFactory) {
+                EventListenerRegistry registry = sessionFactory.getServiceRegistry()
+                        .getService(EventListenerRegistry.class);
+                registry.appendListeners(EventType.POST_INSERT, outboxListener);
+                registry.appendListeners(EventType.POST_UPDATE, outboxListener);
+                registry.appendListeners(EventType.POST_DELETE, outboxListener);
+                registry.appendListeners(EventType.POST_COLLECTION_RECREATE, roleMemberCountListener);
+                registry.appendListeners(EventType.PRE_COLLECTION_UPDATE, roleMemberCountListener);
+                registry.appendListeners(EventType.POST_COLLECTION_UPDATE, roleMemberCountListener);
+                registry.appendListeners(EventType.PRE_COLLECTION_REMOVE, roleMemberCountListener);
+            }
+
+            @Override
+            public void disintegrate(SessionFactoryImplementor sessionFactory,
+                                     SessionFactoryServiceRegistry serviceRegistry) {
+            }
+        };
+        return properties -> properties.put(JpaSettings.INTEGRATOR_PROVIDER,
+                (IntegratorProvider) () -> List.of(integrator));
+    }
+}
@@ -0,0 +1,21 @@
+package io.github.haroldbaes17.minecraftfacts.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "idempotency")
+public record IdempotencyProperties(
+        // memory | database
+        @DefaultValue("memory") String store,
+        // Tiempo que se conserva una respuesta completada
+        @DefaultValue("24h") Duration ttl,
+        // Solo aplica al store en memoria
+        @DefaultValue("10000") long maxEntries,
+        // Cuánto espera un duplicado concurrente a que termine la primera ejecución
+        @DefaultValue("30s") Duration waitTimeout
+) {
+    public static final String MEMORY = "memory";
+    public static final String DATABASE = "database";
+}
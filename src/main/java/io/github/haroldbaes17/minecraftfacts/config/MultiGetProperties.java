@@ -0,0 +1,13 @@
+package io.github.haroldbaes17.minecraftfacts.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "multi-get")
+public record MultiGetProperties(
+        // Ids máximos por petición (GET /roles?ids=..., GET /facts?ids=...)
+        @DefaultValue("200") int maxIds,
+        // Ids por consulta para los que no están en la caché L2
+        @DefaultValue("64") int batchSize
+) {
+}
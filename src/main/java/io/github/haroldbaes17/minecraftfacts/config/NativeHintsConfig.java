@@ -0,0 +1,71 @@
+package io.github.haroldbaes17.minecraftfacts.config;
+
+import io.github.haroldbaes17.minecraftfacts.dto.CacheRegionStats;
+import io.github.haroldbaes17.minecraftfacts.dto.ChangeEvent;
+import io.github.haroldbaes17.minecraftfacts.dto.FactDTO.FactResponse;
+import io.github.haroldbaes17.minecraftfacts.dto.RoleDTO.*;
+import io.github.haroldbaes17.minecraftfacts.dto.UserSummaryDTO;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+import java.util.List;
+
+/**
+ * Metadatos de alcanzabilidad para la imagen nativa que Spring AOT no deduce por sí solo.
+ */
+@Configuration
+@ImportRuntimeHints(NativeHintsConfig.Hints.class)
+public class NativeHintsConfig {
+
+    static class Hints implements RuntimeHintsRegistrar {
+
+        // DTOs que Jackson (de)serializa fuera de los controllers: respuestas idempotentes,
+        // payloads del outbox, jobs bulk
+        private static final List<Class<?>> JACKSON_TYPES = List.of(
+                RoleRequest.class, RoleResponse.class, RoleRenameRequest.class, RoleUpdateDescriptionRequest.class,
+                BulkDeleteRolesRequest.class, BulkDeleteRolesResponse.class, BulkDeleteDeleted.class, BulkDeleteSkipped.class,
+                BulkRestoreRolesRequest.class, BulkRestoreRolesResponse.class, BulkRestoreRestored.class, BulkRestoreSkipped.class,
+                BulkJobResponse.class, FactResponse.class, UserSummaryDTO.class, ChangeEvent.class, CacheRegionStats.class
+        );
+
+        // jjwt-impl es dependencia runtime: la API lo carga por nombre con reflexión
+        private static final List<String> JJWT_TYPES = List.of(
+                "io.jsonwebtoken.impl.DefaultJwtBuilder",
+                "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+                "io.jsonwebtoken.impl.DefaultClaimsBuilder",
+                "io.jsonwebtoken.impl.DefaultJwtHeaderBuilder",
+                "io.jsonwebtoken.impl.io.StandardCompressionAlgorithms",
+                "io.jsonwebtoken.impl.security.StandardSecureDigestAlgorithms",
+                "io.jsonwebtoken.impl.security.StandardKeyOperations",
+                "io.jsonwebtoken.impl.security.StandardKeyAlgorithms",
+                "io.jsonwebtoken.impl.security.StandardEncryptionAlgorithms",
+                "io.jsonwebtoken.impl.security.StandardHashAlgorithms",
+                "io.jsonwebtoken.impl.security.KeysBridge",
+                "io.jsonwebtoken.impl.security.DefaultJwkParserBuilder",
+                "io.jsonwebtoken.impl.security.DefaultDynamicJwkBuilder",
+                "io.jsonwebtoken.jackson.io.JacksonSerializer",
+                "io.jsonwebtoken.jackson.io.JacksonDeserializer"
+        );
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            JACKSON_TYPES.forEach(type -> hints.reflection().registerType(type,
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                    MemberCategory.INVOKE_PUBLIC_METHODS,
+                    MemberCategory.DECLARED_FIELDS));
+
+            JJWT_TYPES.forEach(name -> hints.reflection().registerType(TypeReference.of(name),
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                    MemberCategory.INVOKE_PUBLIC_METHODS,
+                    MemberCategory.DECLARED_FIELDS));
+            hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.*");
+
+            // Configuración de regiones de la caché L2 (Caffeine JCache)
+            hints.resources().registerPattern("hibernate-cache.conf");
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package io.github.haroldbaes17.minecraftfacts.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "outbox")
+public record OutboxProperties(
+        // Eventos leídos por consulta
+        @DefaultValue("200") int batchSize,
+        // Tiempo que el relay sigue buscando un id saltado (commit fuera de orden) antes de darlo por perdido
+        @DefaultValue("5m") Duration gapTimeout,
+        // Huecos pendientes como máximo por instancia
+        @DefaultValue("10000") int maxGaps,
+        // Eventos más antiguos que esto se borran de la tabla
+        @DefaultValue("7d") Duration retention,
+        // Eventos máximos que se reenvían a un cliente SSE que reanuda con Last-Event-ID
+        @DefaultValue("1000") int maxCatchUp,
+        // Vacío = sin entrega por webhook
+        @DefaultValue("") String webhookUrl,
+        // Connect / read timeout del POST al webhook
+        @DefaultValue("10s") Duration webhookTimeout,
+        // Plazo de una reclamación de lote; debe superar webhookTimeout
+        @DefaultValue("1m") Duration webhookLease
+) {
+}
@@ -0,0 +1,53 @@
+package io.github.haroldbaes17.minecraftfacts.config;
+
+import io.github.haroldbaes17.minecraftfacts.filter.QueryCountFilter;
+import io.github.haroldbaes17.minecraftfacts.health.DatabaseActivity;
+import io.github.haroldbaes17.minecraftfacts.listener.QueryStatsListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.util.function.SingletonSupplier;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class QueryCountConfig {
+
+    // Envuelve el DataSource del pool; unwrap(HikariDataSource.class) sigue funcionando a través del proxy.
+    // Las consultas correctas también alimentan el health check de la BD (DatabaseActivity), que se
+    // resuelve en la primera sentencia y no en cada una.
+    @Bean
+    public static BeanPostProcessor queryCountingDataSourcePostProcessor(ObjectProvider<DatabaseActivity> databaseActivityProvider) {
+        SingletonSupplier<DatabaseActivity> databaseActivity = SingletonSupplier.of(databaseActivityProvider::getObject);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && "dataSource".equals(beanName)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name("query-count")
+                            .listener(new QueryStatsListener())
+                            .afterQuery((execInfo, queries) -> {
+                                if (execInfo.isSuccess()) databaseActivity.obtain().markSuccess();
+                            })
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    // Primero de la cadena para que cubra también los filtros de seguridad
+    @Bean
+    public FilterRegistrationBean<QueryCountFilter> queryCountFilter(QueryCountProperties properties,
+                                                                     MeterRegistry meterRegistry) {
+        FilterRegistrationBean<QueryCountFilter> registration =
+                new FilterRegistrationBean<>(new QueryCountFilter(properties, meterRegistry));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
@@ -0,0 +1,18 @@
+package io.github.haroldbaes17.minecraftfacts.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "query-count")
+public record QueryCountProperties(
+        @DefaultValue("true") boolean enabled,
+        // Una petición con más sentencias se registra como sospechosa de N+1
+        @DefaultValue("20") int maxStatements,
+        @DefaultValue("500ms") Duration maxJdbcTime,
+        @DefaultValue("1s") Duration slowRequest,
+        // Sentencias que se incluyen en el log
+        @DefaultValue("30") int maxLoggedStatements
+) {
+}
@@ -0,0 +1,35 @@
+package io.github.haroldbaes17.minecraftfacts.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Set;
+
+@ConfigurationProperties(prefix = "rate-limit")
+public record RateLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        // Máximo de clientes (IP / API key) con bucket en memoria
+        @DefaultValue("100000") long maxClients,
+        // Un bucket sin uso durante este tiempo se descarta (equivale a un bucket lleno)
+        @DefaultValue("10m") Duration idleExpiry,
+        // API keys con presupuesto propio; cualquier otra cabecera X-API-Key se limita por IP
+        Set<String> apiKeys,
+        // Presupuestos por tipo de ruta; si falta alguno se usan los valores por defecto de abajo
+        Budget read,
+        Budget write,
+        Budget bulk
+) {
+    public RateLimitProperties {
+        apiKeys = apiKeys == null ? Set.of() : Set.copyOf(apiKeys);
+        if (read == null) read = new Budget(120, 20);
+        if (write == null) write = new Budget(30, 5);
+        if (bulk == null) bulk = new Budget(5, 0.2);
+    }
+
+    /**
+     * @param capacity        ráfaga máxima permitida
+     * @param refillPerSecond tokens que se recuperan por segundo
+     */
+    public record Budget(long capacity, double refillPerSecond) {}
+}
@@ -0,0 +1,17 @@
+package io.github.haroldbaes17.minecraftfacts.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "role-users")
+public record RoleUsersProperties(
+        // Máximo de roles por petición
+        @DefaultValue("50") int maxRoles,
+        // A partir de cuántos roles se consulta cada rol por separado en paralelo
+        @DefaultValue("4") int fanOutThreshold,
+        // Consultas simultáneas como máximo entre todas las peticiones; además nunca más de la mitad del pool
+        @DefaultValue("8") int maxParallelism,
+        // (page + 1) * size máximo: cada rol lee hasta esa cantidad de usuarios
+        @DefaultValue("1000") int maxWindow
+) {
+}
@@ -1,23 +1,44 @@
 package io.github.haroldbaes17.minecraftfacts.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.haroldbaes17.minecraftfacts.filter.RateLimitFilter;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 @Configuration
 public class SecurityConfig {
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http,
+                                                   RateLimitProperties rateLimitProperties,
+                                                   AdminProperties adminProperties,
+                                                   ObjectMapper objectMapper) throws Exception {
         http
                 .csrf(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(auth -> auth
+                        // Administración y búsquedas que devuelven emails: requieren la cabecera X-Admin-Token;
+                        // sin admin.token configurado, 403
+                        .requestMatchers("/cache/**", "/users/findByUsername/**", "/users/findByEmail/**")
+                        .access(adminToken(adminProperties))
                         .anyRequest().permitAll()
                 )
+                // No se registra como @Bean para que no se añada también a la cadena del servlet
+                .addFilterBefore(new RateLimitFilter(rateLimitProperties, objectMapper),
+                        UsernamePasswordAuthenticationFilter.class)
                 .formLogin(AbstractHttpConfigurer::disable)
                 .logout(AbstractHttpConfigurer::disable);
         return http.build();
     }
+
+    private static AuthorizationManager<RequestAuthorizationContext> adminToken(AdminProperties properties) {
+        return (authentication, context) ->
+                new AuthorizationDecision(properties.matches(context.getRequest().getHeader(AdminProperties.HEADER)));
+    }
 }
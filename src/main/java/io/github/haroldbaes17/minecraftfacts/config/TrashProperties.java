@@ -0,0 +1,19 @@
+package io.github.haroldbaes17.minecraftfacts.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "trash")
+public record TrashProperties(
+        // Tiempo en la papelera antes de borrarse definitivamente
+        @DefaultValue("30d") Duration retention,
+        // Filas borradas por transacción
+        @DefaultValue("200") int batchSize,
+        // Pausa entre lotes para no competir con el tráfico
+        @DefaultValue("200ms") Duration batchPause,
+        // Tiempo máximo de una ejecución de la purga; lo que quede sigue en la siguiente
+        @DefaultValue("10m") Duration maxRunTime
+) {
+}
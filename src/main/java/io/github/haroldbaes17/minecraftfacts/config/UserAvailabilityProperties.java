@@ -0,0 +1,13 @@
+package io.github.haroldbaes17.minecraftfacts.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "user-availability")
+public record UserAvailabilityProperties(
+        // Tasa de falsos positivos del filtro de Bloom (cada uno cuesta una consulta exists)
+        @DefaultValue("0.01") double falsePositiveRate,
+        // Reconstrucción completa; la usa @Scheduled vía ${user-availability.rebuild-cron}
+        @DefaultValue("0 0 4 * * *") String rebuildCron
+) {
+}
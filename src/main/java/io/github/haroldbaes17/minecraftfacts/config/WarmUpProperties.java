@@ -0,0 +1,20 @@
+package io.github.haroldbaes17.minecraftfacts.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "warm-up")
+public record WarmUpProperties(
+        @DefaultValue("true") boolean enabled,
+        // Conexiones a abrir antes de recibir tráfico; 0 = maximum-pool-size del pool
+        @DefaultValue("0") int poolTarget,
+        // Consultas de calentamiento simultáneas; nunca más que poolTarget
+        @DefaultValue("4") int concurrency,
+        // Veces que se repite cada consulta (reparte los prepared statements entre conexiones)
+        @DefaultValue("3") int iterations,
+        // Pasado este tiempo se cancela lo pendiente y la instancia pasa a ready igualmente
+        @DefaultValue("60s") Duration maxTime
+) {
+}
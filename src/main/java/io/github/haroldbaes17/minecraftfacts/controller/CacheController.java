@@ -0,0 +1,27 @@
+package io.github.haroldbaes17.minecraftfacts.controller;
+
+import io.github.haroldbaes17.minecraftfacts.dto.CacheRegionStats;
+import io.github.haroldbaes17.minecraftfacts.service.CacheStatsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController @RequestMapping("/cache")
+@RequiredArgsConstructor
+public class CacheController {
+
+    private final CacheStatsService cacheStatsService;
+
+    @GetMapping("/stats")
+    public ResponseEntity<List<CacheRegionStats>> stats() {
+        return ResponseEntity.ok(cacheStatsService.regionStats());
+    }
+
+    @PostMapping("/evict")
+    public ResponseEntity<String> evict() {
+        cacheStatsService.evictAll();
+        return ResponseEntity.ok("Second-level cache evicted.");
+    }
+}
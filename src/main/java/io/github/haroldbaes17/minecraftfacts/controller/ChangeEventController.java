@@ -0,0 +1,30 @@
+package io.github.haroldbaes17.minecraftfacts.controller;
+
+import io.github.haroldbaes17.minecraftfacts.service.ChangeEventStreamService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@RestController @RequestMapping("/events")
+@RequiredArgsConstructor
+public class ChangeEventController {
+
+    private final ChangeEventStreamService changeEventStreamService;
+
+    // types=ROLE,USER,FACT (vacío = todos). Last-Event-ID reanuda desde el último evento recibido
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId,
+            @RequestParam(defaultValue = "") Set<String> types) {
+        Set<String> aggregateTypes = types.stream()
+                .filter(t -> !t.isBlank())
+                .map(t -> t.trim().toUpperCase(Locale.ROOT))
+                .collect(Collectors.toSet());
+        return changeEventStreamService.subscribe(lastEventId, aggregateTypes);
+    }
+}
@@ -0,0 +1,92 @@
+package io.github.haroldbaes17.minecraftfacts.controller;
+
+import io.github.haroldbaes17.minecraftfacts.dto.FactDTO.FactResponse;
+import io.github.haroldbaes17.minecraftfacts.dto.MultiGetResponse;
+import io.github.haroldbaes17.minecraftfacts.dto.PageResponse;
+import io.github.haroldbaes17.minecraftfacts.dto.TrashItem;
+import io.github.haroldbaes17.minecraftfacts.service.FactStreamService;
+import io.github.haroldbaes17.minecraftfacts.service.MultiGetService;
+import io.github.haroldbaes17.minecraftfacts.service.RandomFactService;
+import io.github.haroldbaes17.minecraftfacts.service.TrashService;
+import jakarta.validation.ConstraintViolationException;
+import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@RestController @RequestMapping("/facts")
+@RequiredArgsConstructor
+public class FactController {
+
+    private final RandomFactService randomFactService;
+    private final FactStreamService factStreamService;
+    private final TrashService trashService;
+    private final MultiGetService multiGetService;
+
+    /* ========= Lectura ========= */
+    // ?ids=3,1,7 -> mismo orden; los borrados o sin publicar salen con found = false
+    @GetMapping(params = "ids")
+    public ResponseEntity<MultiGetResponse<FactResponse>> findByIds(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(multiGetService.facts(ids));
+    }
+
+    /* ========= Aleatorios ========= */
+    @GetMapping("/random")
+    public ResponseEntity<FactResponse> random(@RequestParam(required = false) Long categoryId) {
+        FactResponse fact = categoryId == null
+                ? randomFactService.random()
+                : randomFactService.random(categoryId);
+        return ResponseEntity.ok(fact);
+    }
+
+    // weights=categoryId:peso, ej. ?weights=1:3&weights=4:1
+    @GetMapping("/random/weighted")
+    public ResponseEntity<FactResponse> randomWeighted(@RequestParam List<String> weights) {
+        return ResponseEntity.ok(randomFactService.randomWeighted(parseWeights(weights)));
+    }
+
+    @GetMapping("/daily")
+    public ResponseEntity<FactResponse> daily() {
+        return ResponseEntity.ok(randomFactService.daily());
+    }
+
+    /* ========= Stream ========= */
+    // Nuevos datos publicados; Last-Event-ID reanuda desde el buffer en memoria
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        return factStreamService.subscribe(lastEventId);
+    }
+
+    /* ========= Papelera ========= */
+    @GetMapping("/trash")
+    public ResponseEntity<PageResponse<TrashItem>> trash(
+            @RequestParam(defaultValue = "false") boolean withTotal,
+            @ParameterObject
+            @PageableDefault(size = 20, sort = "deletedAt", direction = Sort.Direction.DESC) Pageable pageable) {
+        return ResponseEntity.ok(trashService.listFacts(withTotal, pageable));
+    }
+
+    private static Map<Long, Integer> parseWeights(List<String> weights) {
+        Map<Long, Integer> parsed = new LinkedHashMap<>();
+        for (String w : weights) {
+            String[] parts = w.split(":");
+            try {
+                parsed.put(Long.parseLong(parts[0].trim()),
+                        parts.length > 1 ? Integer.parseInt(parts[1].trim()) : 1);
+            } catch (NumberFormatException e) {
+                throw new ConstraintViolationException("Invalid weight: " + w, Set.of());
+            }
+        }
+        return parsed;
+    }
+}
@@ -2,12 +2,15 @@ package io.github.haroldbaes17.minecraftfacts.controller;
 
 import io.github.haroldbaes17.minecraftfacts.dto.*;
 import io.github.haroldbaes17.minecraftfacts.dto.RoleDTO.*;
-import io.github.haroldbaes17.minecraftfacts.model.Role;
+import io.github.haroldbaes17.minecraftfacts.service.BulkJobService;
+import io.github.haroldbaes17.minecraftfacts.service.IdempotencyService;
+import io.github.haroldbaes17.minecraftfacts.service.MultiGetService;
+import io.github.haroldbaes17.minecraftfacts.service.RoleMembershipService;
 import io.github.haroldbaes17.minecraftfacts.service.RoleService;
+import io.github.haroldbaes17.minecraftfacts.service.TrashService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springdoc.core.annotations.ParameterObject;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
@@ -21,18 +24,31 @@ import java.util.List;
 public class RoleController {
 
     private final RoleService roleService;
+    private final IdempotencyService idempotencyService;
+    private final BulkJobService bulkJobService;
+    private final RoleMembershipService roleMembershipService;
+    private final TrashService trashService;
+    private final MultiGetService multiGetService;
 
     /* ========= Lectura / búsqueda ========= */
     @GetMapping("/findAll")
-    public ResponseEntity<List<RoleResponse>> findAll() {
-        List<RoleResponse> roles = roleService.findAll();
+    public ResponseEntity<List<RoleResponse>> findAll(
+            @RequestParam(defaultValue = "false") boolean withUserCount) {
+        List<RoleResponse> roles = roleService.findAll(withUserCount);
         return ResponseEntity.ok(roles);
     }
 
     @GetMapping("/findById/{id}")
-    public ResponseEntity<RoleResponse> findById(@PathVariable Long id) {
-        Role role = roleService.findById(id);
-        return ResponseEntity.ok(RoleResponse.from(role));
+    public ResponseEntity<RoleResponse> findById(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "false") boolean withUserCount) {
+        return ResponseEntity.ok(roleService.findResponseById(id, withUserCount));
+    }
+
+    // Varios ids en una petición: ?ids=3,1,7 -> mismo orden, found = false para los que no existen
+    @GetMapping(params = "ids")
+    public ResponseEntity<MultiGetResponse<RoleResponse>> findByIds(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(multiGetService.roles(ids));
     }
 
     @GetMapping("/findByName/{name}")
@@ -42,14 +58,23 @@ public class RoleController {
     }
 
     @GetMapping("/search")
-    public ResponseEntity<Page<Role>> search(
+    public ResponseEntity<PageResponse<RoleResponse>> search(
             @RequestParam(defaultValue = "") String q,
+            @RequestParam(defaultValue = "false") boolean prefix,
+            @RequestParam(defaultValue = "false") boolean withTotal,
             @ParameterObject Pageable pageable) {
 
-        Page<Role> roles = roleService.search(q, pageable);
+        PageResponse<RoleResponse> roles = roleService.search(q, prefix, withTotal, pageable);
         return ResponseEntity.ok(roles);
     }
 
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<RoleResponse>> autocomplete(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(roleService.autocomplete(q, limit));
+    }
+
     @GetMapping("/count")
     public ResponseEntity<Long> count() {
         Long count = roleService.count();
@@ -63,18 +88,31 @@ public class RoleController {
     }
 
     @GetMapping("/listUsersByRole/{id}")
-    public ResponseEntity<Page<UserSummaryDTO>> listUsersByRole(
+    public ResponseEntity<PageResponse<UserSummaryDTO>> listUsersByRole(
             @PathVariable Long id,
+            @RequestParam(defaultValue = "false") boolean withTotal,
             @ParameterObject
             @PageableDefault(size = 20, sort = "username", direction = Sort.Direction.ASC) Pageable pageable
     ) {
-        return ResponseEntity.ok(roleService.listUsersByRole(id, pageable));
+        return ResponseEntity.ok(roleService.listUsersByRole(id, withTotal, pageable));
+    }
+
+    // Varios roles a la vez: ?roleIds=1,2,3; usuarios ordenados por username
+    @GetMapping("/listUsersByRoles")
+    public ResponseEntity<MultiRoleUsersResponse> listUsersByRoles(
+            @RequestParam List<Long> roleIds,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(roleMembershipService.listUsersByRoles(roleIds, page, size));
     }
 
     /* ========= Creación / actualización ========= */
     @PostMapping("/create")
-    public ResponseEntity<RoleResponse> create(@Valid @RequestBody RoleRequest request) {
-        RoleResponse created = roleService.create(request);
+    public ResponseEntity<RoleResponse> create(
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
+            @Valid @RequestBody RoleRequest request) {
+        RoleResponse created = idempotencyService.execute(idempotencyKey, "roles.create", request,
+                RoleResponse.class, () -> roleService.create(request));
         return ResponseEntity.ok(created);
     }
 
@@ -103,10 +141,13 @@ public class RoleController {
         return ResponseEntity.ok("Role has been deleted.");
     }
 
+    // Más recientes primero; se purgan solos al superar trash.retention
     @GetMapping("/listTrash")
-    public ResponseEntity<List<RoleResponse>> listTrash() {
-        List<RoleResponse> roles = roleService.listTrash();
-        return ResponseEntity.ok(roles);
+    public ResponseEntity<PageResponse<TrashItem>> listTrash(
+            @RequestParam(defaultValue = "false") boolean withTotal,
+            @ParameterObject
+            @PageableDefault(size = 20, sort = "deletedAt", direction = Sort.Direction.DESC) Pageable pageable) {
+        return ResponseEntity.ok(trashService.listRoles(withTotal, pageable));
     }
 
     @PostMapping("/restore/{id}")
@@ -117,18 +158,46 @@ public class RoleController {
 
     @PostMapping("/bulk/delete")
     public ResponseEntity<BulkDeleteRolesResponse> bulkDelete(
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
             @Valid @RequestBody BulkDeleteRolesRequest request) {
-        BulkDeleteRolesResponse response = roleService.bulkDelete(request);
+        BulkDeleteRolesResponse response = idempotencyService.execute(idempotencyKey, "roles.bulk.delete", request,
+                BulkDeleteRolesResponse.class, () -> roleService.bulkDelete(request));
         return ResponseEntity.ok(response);
     }
     
     @PostMapping("/bulk/restore")
     public ResponseEntity<BulkRestoreRolesResponse> bulkRestore(
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
             @Valid @RequestBody BulkRestoreRolesRequest request) {
-        BulkRestoreRolesResponse response = roleService.bulkRestore(request);
+        BulkRestoreRolesResponse response = idempotencyService.execute(idempotencyKey, "roles.bulk.restore", request,
+                BulkRestoreRolesResponse.class, () -> roleService.bulkRestore(request));
         return ResponseEntity.ok(response);
     }
 
+    /* ========= Jobs bulk asíncronos ========= */
+    @PostMapping("/bulk/jobs/delete")
+    public ResponseEntity<BulkJobResponse> submitBulkDeleteJob(
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
+            @Valid @RequestBody BulkDeleteRolesRequest request) {
+        BulkJobResponse job = idempotencyService.execute(idempotencyKey, "roles.bulk.jobs.delete", request,
+                BulkJobResponse.class, () -> bulkJobService.submitDelete(request));
+        return ResponseEntity.accepted().body(job);
+    }
+
+    @PostMapping("/bulk/jobs/restore")
+    public ResponseEntity<BulkJobResponse> submitBulkRestoreJob(
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
+            @Valid @RequestBody BulkRestoreRolesRequest request) {
+        BulkJobResponse job = idempotencyService.execute(idempotencyKey, "roles.bulk.jobs.restore", request,
+                BulkJobResponse.class, () -> bulkJobService.submitRestore(request));
+        return ResponseEntity.accepted().body(job);
+    }
+
+    @GetMapping("/bulk/jobs/{jobId}")
+    public ResponseEntity<BulkJobResponse> getBulkJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(bulkJobService.get(jobId));
+    }
+
     @DeleteMapping("/hardDelete/{id}")
     public ResponseEntity<String> hardDelete(@PathVariable Long id) {
         return ResponseEntity.ok(roleService.hardDelete(id));
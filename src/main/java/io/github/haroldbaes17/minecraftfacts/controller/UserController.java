@@ -0,0 +1,47 @@
+package io.github.haroldbaes17.minecraftfacts.controller;
+
+import io.github.haroldbaes17.minecraftfacts.dto.UserAvailabilityResponse;
+import io.github.haroldbaes17.minecraftfacts.dto.UserSummaryDTO;
+import io.github.haroldbaes17.minecraftfacts.service.UserAvailabilityService;
+import io.github.haroldbaes17.minecraftfacts.service.UserService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController @RequestMapping("/users")
+@RequiredArgsConstructor
+public class UserController {
+
+    private final UserService userService;
+    private final UserAvailabilityService userAvailabilityService;
+
+    /* ========= Lectura / búsqueda ========= */
+    // findBy*: devuelven el email, requieren X-Admin-Token (SecurityConfig)
+    @GetMapping("/findByUsername/{username}")
+    public ResponseEntity<UserSummaryDTO> findByUsername(@PathVariable String username) {
+        return ResponseEntity.ok(userService.findByUsername(username));
+    }
+
+    @GetMapping("/findByEmail/{email}")
+    public ResponseEntity<UserSummaryDTO> findByEmail(@PathVariable String email) {
+        return ResponseEntity.ok(userService.findByEmail(email));
+    }
+
+    // Formulario de registro: ?username=...&email=... (cualquiera de los dos)
+    @GetMapping("/availability")
+    public ResponseEntity<UserAvailabilityResponse> availability(
+            @RequestParam(required = false) String username,
+            @RequestParam(required = false) String email) {
+        return ResponseEntity.ok(userAvailabilityService.check(username, email));
+    }
+
+    // Público: solo usernames
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<String>> autocomplete(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(userService.autocomplete(q, limit));
+    }
+}
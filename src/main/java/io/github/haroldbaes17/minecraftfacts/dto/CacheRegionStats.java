@@ -0,0 +1,17 @@
+package io.github.haroldbaes17.minecraftfacts.dto;
+
+public record CacheRegionStats(
+        String region,
+        String kind,
+        long hits,
+        long misses,
+        long puts,
+        long elementsInMemory,
+        double hitRatio
+) {
+    public static CacheRegionStats of(String region, String kind, long hits, long misses, long puts, long elements) {
+        long lookups = hits + misses;
+        return new CacheRegionStats(region, kind, hits, misses, puts, elements,
+                lookups == 0 ? 0.0 : (double) hits / lookups);
+    }
+}
@@ -0,0 +1,17 @@
+package io.github.haroldbaes17.minecraftfacts.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.time.Instant;
+
+/**
+ * Cambio sobre un rol, usuario o dato curioso, leído del outbox.
+ */
+public record ChangeEvent(
+        long id,
+        String aggregateType,
+        Long aggregateId,
+        String eventType,
+        JsonNode payload,
+        Instant occurredAt
+) {}
@@ -0,0 +1,20 @@
+package io.github.haroldbaes17.minecraftfacts.dto.FactDTO;
+
+import io.github.haroldbaes17.minecraftfacts.model.Fact;
+
+import java.time.Instant;
+
+public record FactResponse(
+        Long id,
+        String title,
+        String content,
+        String imageUrl,
+        String sourceUrl,
+        Instant createdAt,
+        Instant updatedAt
+) {
+    public static FactResponse from(Fact f) {
+        return new FactResponse(f.getId(), f.getTitle(), f.getContent(), f.getImageUrl(),
+                f.getSourceUrl(), f.getCreatedAt(), f.getUpdatedAt());
+    }
+}
@@ -0,0 +1,18 @@
+package io.github.haroldbaes17.minecraftfacts.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+// Un elemento por id pedido, en el mismo orden; found = false para los que no existen
+public record MultiGetResponse<T>(
+        int requested,
+        int found,
+        List<Item<T>> items
+) {
+    public record Item<T>(
+            Long id,
+            boolean found,
+            @JsonInclude(JsonInclude.Include.NON_NULL) T value
+    ) {}
+}
@@ -0,0 +1,44 @@
+package io.github.haroldbaes17.minecraftfacts.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Página de resultados. {@code totalElements} / {@code totalPages} solo aparecen cuando el cliente
+ * los pide ({@code ?withTotal=true}), porque cuestan una consulta COUNT.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record PageResponse<T>(
+        List<T> content,
+        int page,
+        int size,
+        boolean hasNext,
+        Long totalElements,
+        Integer totalPages
+) {
+    public static <T> PageResponse<T> of(Slice<T> slice) {
+        return new PageResponse<>(slice.getContent(), slice.getNumber(), slice.getSize(), slice.hasNext(), null, null);
+    }
+
+    /**
+     * Con {@code total == null} no se cuenta. Si no, el COUNT se omite igualmente cuando el total se
+     * deduce de la propia página (primera página incompleta o última página).
+     */
+    public static <T> PageResponse<T> of(Slice<T> slice, LongSupplier total) {
+        if (total == null) return of(slice);
+        Page<T> page = PageableExecutionUtils.getPage(slice.getContent(), slice.getPageable(), total);
+        return new PageResponse<>(page.getContent(), page.getNumber(), page.getSize(), page.hasNext(),
+                page.getTotalElements(), page.getTotalPages());
+    }
+
+    public <R> PageResponse<R> map(Function<? super T, ? extends R> mapper) {
+        List<R> mapped = content.stream().<R>map(mapper).toList();
+        return new PageResponse<>(mapped, page, size, hasNext, totalElements, totalPages);
+    }
+}
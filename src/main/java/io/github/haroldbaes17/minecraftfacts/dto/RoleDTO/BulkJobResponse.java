@@ -0,0 +1,22 @@
+package io.github.haroldbaes17.minecraftfacts.dto.RoleDTO;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.Instant;
+import java.util.List;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BulkJobResponse(
+        String id,
+        String type,
+        String status,
+        int requested,
+        int total,
+        int processed,
+        int succeeded,
+        List<BulkDeleteSkipped> deleteSkipped,
+        List<BulkRestoreSkipped> restoreSkipped,
+        Instant createdAt,
+        Instant finishedAt,
+        String error
+) {}
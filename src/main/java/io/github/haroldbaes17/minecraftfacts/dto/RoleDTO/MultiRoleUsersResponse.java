@@ -0,0 +1,12 @@
+package io.github.haroldbaes17.minecraftfacts.dto.RoleDTO;
+
+import io.github.haroldbaes17.minecraftfacts.dto.PageResponse;
+import io.github.haroldbaes17.minecraftfacts.dto.UserSummaryDTO;
+
+import java.util.List;
+
+// Usuarios ordenados por username y sin repetir aunque tengan varios de los roles pedidos
+public record MultiRoleUsersResponse(
+        List<RoleUserCount> roles,
+        PageResponse<UserSummaryDTO> users
+) {}
@@ -1,14 +1,21 @@
 package io.github.haroldbaes17.minecraftfacts.dto.RoleDTO;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.github.haroldbaes17.minecraftfacts.model.Role;
 
 public record RoleResponse(
         Long id,
         String name,
         String description,
-        boolean deleted
+        boolean deleted,
+        // Solo cuando se pide (?withUserCount=true)
+        @JsonInclude(JsonInclude.Include.NON_NULL) Long userCount
 ) {
     public static RoleResponse from(Role r) {
-        return new RoleResponse(r.getId(), r.getName(), r.getDescription(), r.isDeleted());
+        return new RoleResponse(r.getId(), r.getName(), r.getDescription(), r.isDeleted(), null);
+    }
+
+    public static RoleResponse from(Role r, long userCount) {
+        return new RoleResponse(r.getId(), r.getName(), r.getDescription(), r.isDeleted(), userCount);
     }
 }
@@ -0,0 +1,3 @@
+package io.github.haroldbaes17.minecraftfacts.dto.RoleDTO;
+
+public record RoleUserCount(Long roleId, String name, long userCount) {}
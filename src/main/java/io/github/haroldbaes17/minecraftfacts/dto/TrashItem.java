@@ -0,0 +1,27 @@
+package io.github.haroldbaes17.minecraftfacts.dto;
+
+import io.github.haroldbaes17.minecraftfacts.model.Fact;
+import io.github.haroldbaes17.minecraftfacts.model.Role;
+
+import java.time.Duration;
+import java.time.Instant;
+
+// Elemento de la papelera; purgeAfter = cuándo lo borrará la purga programada
+public record TrashItem(
+        Long id,
+        String name,
+        Instant deletedAt,
+        Instant purgeAfter
+) {
+    public static TrashItem from(Role r, Duration retention) {
+        return new TrashItem(r.getId(), r.getName(), r.getDeletedAt(), purgeAfter(r.getDeletedAt(), retention));
+    }
+
+    public static TrashItem from(Fact f, Duration retention) {
+        return new TrashItem(f.getId(), f.getTitle(), f.getDeletedAt(), purgeAfter(f.getDeletedAt(), retention));
+    }
+
+    private static Instant purgeAfter(Instant deletedAt, Duration retention) {
+        return deletedAt == null ? null : deletedAt.plus(retention);
+    }
+}
@@ -0,0 +1,9 @@
+package io.github.haroldbaes17.minecraftfacts.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record UserAvailabilityResponse(
+        Boolean usernameAvailable,
+        Boolean emailAvailable
+) {}
@@ -17,14 +17,15 @@ public class UserSummaryDTO {
     private Instant updatedAt;
 
     public static UserSummaryDTO fromEntity(User user) {
-        return UserSummaryDTO.builder()
-                .id(user.getId())
-                .username(user.getUsername())
-                .email(user.getEmail())
-                .enabled(user.isEnabled())
-                .emailVerified(user.isEmailVerified())
-                .createdAt(user.getCreatedAt())
-                .updatedAt(user.getUpdatedAt())
-                .build();
+        // Constructor directo: se llama por cada fila de los listados, sin builder intermedio
+        return new UserSummaryDTO(
+                user.getId(),
+                user.getUsername(),
+                user.getEmail(),
+                user.isEnabled(),
+                user.isEmailVerified(),
+                user.getCreatedAt(),
+                user.getUpdatedAt()
+        );
     }
 }
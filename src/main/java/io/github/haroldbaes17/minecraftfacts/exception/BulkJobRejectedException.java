@@ -0,0 +1,7 @@
+package io.github.haroldbaes17.minecraftfacts.exception;
+
+public class BulkJobRejectedException extends RuntimeException {
+    public BulkJobRejectedException(String message) {
+        super(message);
+    }
+}
@@ -206,6 +206,27 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(pd);
     }
 
+    @ExceptionHandler(IdempotencyKeyReuseException.class)
+    public ResponseEntity<Object> handleIdempotencyKeyReuse(IdempotencyKeyReuseException ex, HttpServletRequest req) {
+        ProblemDetail pd = baseProblem(HttpStatus.UNPROCESSABLE_ENTITY, "Idempotency key reused", ex.getMessage(), req);
+        pd.setProperty("errorCode", "IDEMPOTENCY_KEY_REUSED");
+        return wrap(pd);
+    }
+
+    @ExceptionHandler(IdempotencyInProgressException.class)
+    public ResponseEntity<Object> handleIdempotencyInProgress(IdempotencyInProgressException ex, HttpServletRequest req) {
+        ProblemDetail pd = baseProblem(HttpStatus.CONFLICT, "Request in progress", ex.getMessage(), req);
+        pd.setProperty("errorCode", "IDEMPOTENCY_IN_PROGRESS");
+        return wrap(pd);
+    }
+
+    @ExceptionHandler(BulkJobRejectedException.class)
+    public ResponseEntity<Object> handleBulkJobRejected(BulkJobRejectedException ex, HttpServletRequest req) {
+        ProblemDetail pd = baseProblem(HttpStatus.SERVICE_UNAVAILABLE, "Bulk job rejected", ex.getMessage(), req);
+        pd.setProperty("errorCode", "BULK_JOB_REJECTED");
+        return wrap(pd);
+    }
+
     @ExceptionHandler(ConstraintViolationException.class)
     public ResponseEntity<Object> handleConstraintViolation(ConstraintViolationException ex, HttpServletRequest req) {
         Map<String, String> errors = ex.getConstraintViolations().stream()
@@ -0,0 +1,7 @@
+package io.github.haroldbaes17.minecraftfacts.exception;
+
+public class IdempotencyInProgressException extends RuntimeException {
+    public IdempotencyInProgressException(String message) {
+        super(message);
+    }
+}
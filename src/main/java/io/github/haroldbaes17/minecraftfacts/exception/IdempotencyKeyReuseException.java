@@ -0,0 +1,7 @@
+package io.github.haroldbaes17.minecraftfacts.exception;
+
+public class IdempotencyKeyReuseException extends RuntimeException {
+    public IdempotencyKeyReuseException(String message) {
+        super(message);
+    }
+}
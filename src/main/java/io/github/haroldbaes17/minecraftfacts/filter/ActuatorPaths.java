@@ -0,0 +1,17 @@
+package io.github.haroldbaes17.minecraftfacts.filter;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Peticiones a Actuator que los filtros de la aplicación dejan pasar sin procesar
+ * (con management.server.port suelen ir por otro puerto).
+ */
+final class ActuatorPaths {
+
+    private ActuatorPaths() {
+    }
+
+    static boolean matches(HttpServletRequest request) {
+        return request.getRequestURI().startsWith(request.getContextPath() + "/actuator");
+    }
+}
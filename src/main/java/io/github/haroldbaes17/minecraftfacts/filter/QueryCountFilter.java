@@ -0,0 +1,95 @@
+package io.github.haroldbaes17.minecraftfacts.filter;
+
+import io.github.haroldbaes17.minecraftfacts.config.QueryCountProperties;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cuenta las sentencias SQL y el tiempo JDBC de cada petición, los publica como métricas por endpoint
+ * ({@code http.server.requests.jdbc.statements}, {@code http.server.requests.jdbc.time}) y registra
+ * las peticiones que superan los umbrales con su SQL y el método del controller.
+ */
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(QueryCountFilter.class);
+
+    private final QueryCountProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public QueryCountFilter(QueryCountProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.enabled() || ActuatorPaths.matches(request);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain chain) throws ServletException, IOException {
+        long start = System.nanoTime();
+        QueryStats stats = QueryStats.open(properties.maxLoggedStatements());
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            stats.close();
+            report(request, response, stats, System.nanoTime() - start);
+        }
+    }
+
+    private void report(HttpServletRequest request, HttpServletResponse response, QueryStats stats, long elapsedNanos) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+
+        DistributionSummary.builder("http.server.requests.jdbc.statements")
+                .description("SQL statements per HTTP request")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(stats.statements());
+        Timer.builder("http.server.requests.jdbc.time")
+                .description("JDBC time per HTTP request")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(stats.jdbcNanos(), TimeUnit.NANOSECONDS);
+
+        Duration jdbcTime = Duration.ofNanos(stats.jdbcNanos());
+        Duration elapsed = Duration.ofNanos(elapsedNanos);
+        boolean tooManyStatements = stats.statements() > properties.maxStatements();
+        boolean slowJdbc = jdbcTime.compareTo(properties.maxJdbcTime()) > 0;
+        boolean slowRequest = elapsed.compareTo(properties.slowRequest()) > 0;
+        if (!tooManyStatements && !slowJdbc && !slowRequest) return;
+
+        log.warn("{} {} -> {} [{}]: {} statements, {} ms JDBC, {} ms total{}",
+                request.getMethod(), request.getRequestURI(), response.getStatus(), handlerOf(request),
+                stats.statements(), jdbcTime.toMillis(), elapsed.toMillis(),
+                stats.sql().isEmpty() ? "" : "\n  " + String.join("\n  ", stats.sql()));
+    }
+
+    private static String handlerOf(HttpServletRequest request) {
+        Object handler = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+        if (handler instanceof HandlerMethod hm) {
+            return hm.getBeanType().getSimpleName() + "#" + hm.getMethod().getName();
+        }
+        return handler != null ? handler.toString() : "no handler";
+    }
+}
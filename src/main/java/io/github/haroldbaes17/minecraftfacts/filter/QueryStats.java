@@ -0,0 +1,81 @@
+package io.github.haroldbaes17.minecraftfacts.filter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sentencias SQL y tiempo JDBC acumulados en un ámbito (una petición HTTP o un bloque de un test).
+ * <p>
+ * Se propaga a los hilos creados dentro del ámbito (p. ej. los hilos virtuales del fan-out de roles).
+ * Al cerrarse, un ámbito anidado suma sus cifras al que lo contiene.
+ */
+public final class QueryStats {
+
+    private static final InheritableThreadLocal<QueryStats> CURRENT = new InheritableThreadLocal<>();
+
+    private final QueryStats parent;
+    private final int maxRecorded;
+    private final AtomicLong statements = new AtomicLong();
+    private final AtomicLong jdbcNanos = new AtomicLong();
+    private final List<String> sql = new ArrayList<>();
+    private volatile boolean closed;
+
+    private QueryStats(QueryStats parent, int maxRecorded) {
+        this.parent = parent;
+        this.maxRecorded = maxRecorded;
+    }
+
+    public static QueryStats open(int maxRecorded) {
+        QueryStats stats = new QueryStats(CURRENT.get(), maxRecorded);
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    // Solo desde el hilo que abrió el ámbito
+    public void close() {
+        closed = true;
+        if (parent != null) {
+            parent.statements.addAndGet(statements.get());
+            parent.jdbcNanos.addAndGet(jdbcNanos.get());
+            synchronized (sql) {
+                sql.forEach(parent::recordSql);
+            }
+            CURRENT.set(parent);
+        } else {
+            CURRENT.remove();
+        }
+    }
+
+    // null fuera de cualquier ámbito o si el ámbito heredado ya terminó (hilos de pools creados en una petición)
+    public static QueryStats current() {
+        QueryStats stats = CURRENT.get();
+        return stats == null || stats.closed ? null : stats;
+    }
+
+    public void record(String statement, long elapsedNanos) {
+        statements.incrementAndGet();
+        jdbcNanos.addAndGet(elapsedNanos);
+        recordSql(statement);
+    }
+
+    private void recordSql(String statement) {
+        synchronized (sql) {
+            if (sql.size() < maxRecorded) sql.add(statement);
+        }
+    }
+
+    public long statements() {
+        return statements.get();
+    }
+
+    public long jdbcNanos() {
+        return jdbcNanos.get();
+    }
+
+    public List<String> sql() {
+        synchronized (sql) {
+            return List.copyOf(sql);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package io.github.haroldbaes17.minecraftfacts.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.haroldbaes17.minecraftfacts.config.RateLimitProperties;
+import io.github.haroldbaes17.minecraftfacts.config.RateLimitProperties.Budget;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rate limiting por cliente (API key configurada o IP) con presupuestos separados para lecturas,
+ * escrituras y operaciones bulk. Responde 429 con cabeceras {@code X-RateLimit-*}.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    public static final String API_KEY_HEADER = "X-API-Key";
+
+    enum Tier { READ, WRITE, BULK }
+
+    private final RateLimitProperties properties;
+    private final ObjectMapper objectMapper;
+    private final Cache<String, TokenBucket> buckets;
+
+    public RateLimitFilter(RateLimitProperties properties, ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.maxClients())
+                .expireAfterAccess(properties.idleExpiry())
+                .build();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        // Sondas y métricas no consumen presupuesto
+        return !properties.enabled() || ActuatorPaths.matches(request);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain chain) throws ServletException, IOException {
+        Tier tier = tierOf(request);
+        Budget budget = budgetOf(tier);
+        String key = tier.name() + '|' + clientKey(request, properties.apiKeys());
+
+        TokenBucket bucket = buckets.get(key, k -> new TokenBucket(budget.capacity(), budget.refillPerSecond()));
+        long result = bucket.tryConsume(System.nanoTime());
+
+        response.setHeader("X-RateLimit-Limit", Long.toString(budget.capacity()));
+        if (result >= 0) {
+            response.setHeader("X-RateLimit-Remaining", Long.toString(result));
+            chain.doFilter(request, response);
+            return;
+        }
+
+        long waitNanos = -(result + 1);
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+        response.setHeader("X-RateLimit-Remaining", "0");
+        response.setHeader("Retry-After", Long.toString(retryAfterSeconds));
+        writeTooManyRequests(request, response);
+    }
+
+    private void writeTooManyRequests(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        ProblemDetail pd = ProblemDetail.forStatusAndDetail(HttpStatus.TOO_MANY_REQUESTS,
+                "Demasiadas solicitudes. Intenta de nuevo más tarde.");
+        pd.setTitle("Too many requests");
+        pd.setProperty("path", request.getRequestURI());
+        pd.setProperty("timestamp", OffsetDateTime.now().toString());
+        pd.setProperty("errorCode", "RATE_LIMITED");
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), pd);
+    }
+
+    private Budget budgetOf(Tier tier) {
+        return switch (tier) {
+            case READ -> properties.read();
+            case WRITE -> properties.write();
+            case BULK -> properties.bulk();
+        };
+    }
+
+    // Consultar un job bulk (GET /bulk/jobs/{id}) es una lectura: no gasta el presupuesto de envíos
+    static Tier tierOf(HttpServletRequest request) {
+        String method = request.getMethod();
+        if ("GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method)) return Tier.READ;
+        if (request.getRequestURI().contains("/bulk/")) return Tier.BULK;
+        return Tier.WRITE;
+    }
+
+    // Solo las API keys conocidas tienen bucket propio: una cabecera inventada por petición no
+    // debe saltarse el límite por IP. getRemoteAddr ya es la IP del cliente detrás de un proxy
+    // (server.forward-headers-strategy)
+    static String clientKey(HttpServletRequest request, Set<String> apiKeys) {
+        String apiKey = request.getHeader(API_KEY_HEADER);
+        if (apiKey != null && apiKeys.contains(apiKey)) return "key:" + apiKey;
+        return "ip:" + request.getRemoteAddr();
+    }
+}
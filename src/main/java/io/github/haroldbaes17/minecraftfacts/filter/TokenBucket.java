@@ -0,0 +1,41 @@
+package io.github.haroldbaes17.minecraftfacts.filter;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket sin locks, implementado como GCRA: en lugar de guardar tokens y última
+ * recarga se guarda un único instante teórico de llegada (TAT) en un {@link AtomicLong},
+ * así cada consumo es una lectura y un CAS.
+ */
+final class TokenBucket {
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final AtomicLong theoreticalArrival = new AtomicLong(Long.MIN_VALUE);
+
+    TokenBucket(long capacity, double refillPerSecond) {
+        this.emissionIntervalNanos = (long) (1_000_000_000L / refillPerSecond);
+        this.burstToleranceNanos = emissionIntervalNanos * capacity;
+    }
+
+    /**
+     * Intenta consumir un token.
+     *
+     * @return tokens restantes si se permitió, o {@code -(nanos de espera) - 1} si no
+     */
+    long tryConsume(long nowNanos) {
+        while (true) {
+            long tat = theoreticalArrival.get();
+            long start = tat == Long.MIN_VALUE ? nowNanos : Math.max(tat, nowNanos);
+            long newTat = start + emissionIntervalNanos;
+            long debt = newTat - nowNanos;
+
+            if (debt > burstToleranceNanos) {
+                return -(debt - burstToleranceNanos) - 1;
+            }
+            if (theoreticalArrival.compareAndSet(tat, newTat)) {
+                return (burstToleranceNanos - debt) / emissionIntervalNanos;
+            }
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package io.github.haroldbaes17.minecraftfacts.health;
+
+import io.github.haroldbaes17.minecraftfacts.service.RandomFactService;
+import io.github.haroldbaes17.minecraftfacts.service.StartupWarmUpService;
+import io.github.haroldbaes17.minecraftfacts.service.UserAvailabilityService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cachés en memoria y calentamiento de arranque: deben estar listos antes de recibir tráfico
+ * (forma parte de readiness).
+ */
+@Component("caches")
+@RequiredArgsConstructor
+public class CacheWarmHealthIndicator implements HealthIndicator {
+
+    private final RandomFactService randomFactService;
+    private final UserAvailabilityService userAvailabilityService;
+    private final StartupWarmUpService startupWarmUpService;
+
+    @Override
+    public Health health() {
+        boolean factIndex = randomFactService.isLoaded();
+        boolean availability = userAvailabilityService.isReady();
+        boolean warmedUp = startupWarmUpService.isDone();
+
+        Health.Builder builder = factIndex && availability && warmedUp ? Health.up() : Health.outOfService();
+        builder.withDetail("randomFactIndex", factIndex);
+        if (factIndex) builder.withDetail("randomFactIndexSize", randomFactService.size());
+        builder.withDetail("userAvailabilityFilter", availability);
+        builder.withDetail("warmUp", warmedUp);
+        if (warmedUp) builder.withDetail("warmUpStageMs", startupWarmUpService.stageMillis());
+        return builder.build();
+    }
+}
@@ -0,0 +1,54 @@
+package io.github.haroldbaes17.minecraftfacts.health;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.github.haroldbaes17.minecraftfacts.config.HealthProperties;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * Ocupación del pool principal. La saturación se informa pero no cambia el estado: sacar pods del
+ * balanceador cuando están ocupados solo traslada la carga a los demás.
+ */
+@Component("connectionPool")
+public class ConnectionPoolHealthIndicator implements HealthIndicator {
+
+    private final DataSource dataSource;
+    private final HealthProperties properties;
+
+    public ConnectionPoolHealthIndicator(DataSource dataSource, HealthProperties properties) {
+        this.dataSource = dataSource;
+        this.properties = properties;
+    }
+
+    @Override
+    public Health health() {
+        HikariDataSource hikari;
+        try {
+            if (!dataSource.isWrapperFor(HikariDataSource.class)) return Health.unknown().build();
+            hikari = dataSource.unwrap(HikariDataSource.class);
+        } catch (SQLException e) {
+            return Health.unknown().withException(e).build();
+        }
+
+        HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+        if (pool == null) return Health.unknown().withDetail("reason", "Pool not started").build();
+
+        int active = pool.getActiveConnections();
+        int max = hikari.getMaximumPoolSize();
+        int waiting = pool.getThreadsAwaitingConnection();
+        return Health.up()
+                .withDetail("active", active)
+                .withDetail("idle", pool.getIdleConnections())
+                .withDetail("total", pool.getTotalConnections())
+                .withDetail("max", max)
+                .withDetail("threadsAwaitingConnection", waiting)
+                .withDetail("utilization", max == 0 ? 0.0 : (double) active / max)
+                .withDetail("saturated", waiting >= properties.poolSaturatedWaiters())
+                .build();
+    }
+}
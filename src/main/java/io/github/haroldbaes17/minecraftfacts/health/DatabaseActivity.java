@@ -0,0 +1,24 @@
+package io.github.haroldbaes17.minecraftfacts.health;
+
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Momento de la última sentencia SQL que terminó bien en el pool principal.
+ * Si es reciente, el health check de la BD no necesita conectarse.
+ */
+@Component
+public class DatabaseActivity {
+
+    private final AtomicLong lastSuccessNanos = new AtomicLong(System.nanoTime() - Duration.ofDays(1).toNanos());
+
+    public void markSuccess() {
+        lastSuccessNanos.set(System.nanoTime());
+    }
+
+    public Duration sinceLastSuccess() {
+        return Duration.ofNanos(System.nanoTime() - lastSuccessNanos.get());
+    }
+}
@@ -0,0 +1,77 @@
+package io.github.haroldbaes17.minecraftfacts.health;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.github.haroldbaes17.minecraftfacts.config.HealthProperties;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.time.Duration;
+
+/**
+ * Alcance de la BD sin tocar el pool principal.
+ * <p>
+ * Si alguna consulta terminó bien hace menos de {@code health.db-fresh-for}, responde con ese dato.
+ * Si no, valida una conexión de un pool propio de tamaño 1 que se cierra al quedar inactivo.
+ */
+@Component("database")
+public class DatabaseHealthIndicator implements HealthIndicator, DisposableBean {
+
+    private final DatabaseActivity activity;
+    private final HealthProperties properties;
+    private final HikariDataSource probePool;
+
+    public DatabaseHealthIndicator(DatabaseActivity activity, HealthProperties properties,
+                                   DataSourceProperties dataSourceProperties) {
+        this.activity = activity;
+        this.properties = properties;
+
+        HikariConfig config = new HikariConfig();
+        config.setPoolName("Hikari-Health");
+        config.setJdbcUrl(dataSourceProperties.determineUrl());
+        config.setUsername(dataSourceProperties.determineUsername());
+        config.setPassword(dataSourceProperties.determinePassword());
+        config.setMaximumPoolSize(1);
+        config.setMinimumIdle(0);
+        config.setIdleTimeout(Duration.ofSeconds(30).toMillis());
+        config.setConnectionTimeout(Math.max(250, properties.dbProbeTimeout().toMillis()));
+        // Sin conexión al arrancar: el contexto no depende de que la BD esté disponible
+        config.setInitializationFailTimeout(-1);
+        this.probePool = new HikariDataSource(config);
+    }
+
+    @Override
+    public Health health() {
+        Duration since = activity.sinceLastSuccess();
+        if (since.compareTo(properties.dbFreshFor()) < 0) {
+            return Health.up()
+                    .withDetail("source", "recent-query")
+                    .withDetail("lastSuccessMsAgo", since.toMillis())
+                    .build();
+        }
+
+        long start = System.nanoTime();
+        try (Connection connection = probePool.getConnection()) {
+            int timeoutSeconds = (int) Math.max(1, properties.dbProbeTimeout().toSeconds());
+            if (!connection.isValid(timeoutSeconds)) {
+                return Health.down().withDetail("source", "probe").withDetail("error", "Connection not valid").build();
+            }
+            activity.markSuccess();
+            return Health.up()
+                    .withDetail("source", "probe")
+                    .withDetail("probeMs", Duration.ofNanos(System.nanoTime() - start).toMillis())
+                    .build();
+        } catch (Exception e) {
+            return Health.down(e).withDetail("source", "probe").build();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        probePool.close();
+    }
+}
@@ -0,0 +1,44 @@
+package io.github.haroldbaes17.minecraftfacts.listener;
+
+import io.github.haroldbaes17.minecraftfacts.model.Category;
+import io.github.haroldbaes17.minecraftfacts.model.Fact;
+import io.github.haroldbaes17.minecraftfacts.service.RandomFactService;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * Mantiene el índice de {@link RandomFactService} al publicar, despublicar o borrar un dato.
+ * Los cambios se aplican después del commit para no exponer datos de transacciones revertidas.
+ */
+@Component
+public class FactLifecycleListener {
+
+    // ObjectProvider: Hibernate crea el listener mientras arranca el EntityManagerFactory
+    private final ObjectProvider<RandomFactService> randomFactService;
+
+    public FactLifecycleListener(ObjectProvider<RandomFactService> randomFactService) {
+        this.randomFactService = randomFactService;
+    }
+
+    @PostPersist
+    @PostUpdate
+    void onSave(Fact fact) {
+        long id = fact.getId();
+        boolean eligible = fact.isPublished() && !fact.isDeleted();
+        // Se leen las categorías ahora, mientras la sesión sigue abierta
+        long[] categoryIds = eligible && fact.getCategories() != null
+                ? fact.getCategories().stream().mapToLong(Category::getId).toArray()
+                : new long[0];
+
+        AfterCommit.run(() -> randomFactService.getObject().onFactSaved(id, eligible, categoryIds));
+    }
+
+    @PostRemove
+    void onRemove(Fact fact) {
+        long id = fact.getId();
+        AfterCommit.run(() -> randomFactService.getObject().onFactRemoved(id));
+    }
+}
@@ -0,0 +1,93 @@
+package io.github.haroldbaes17.minecraftfacts.listener;
+
+import io.github.haroldbaes17.minecraftfacts.dto.FactDTO.FactResponse;
+import io.github.haroldbaes17.minecraftfacts.dto.RoleDTO.RoleResponse;
+import io.github.haroldbaes17.minecraftfacts.dto.UserSummaryDTO;
+import io.github.haroldbaes17.minecraftfacts.model.Fact;
+import io.github.haroldbaes17.minecraftfacts.model.Role;
+import io.github.haroldbaes17.minecraftfacts.model.User;
+import io.github.haroldbaes17.minecraftfacts.service.OutboxService;
+import org.hibernate.event.spi.*;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+/**
+ * Escribe en el outbox cada alta, cambio o borrado de roles, usuarios y datos curiosos,
+ * en la misma transacción que el cambio.
+ */
+@Component
+public class OutboxHibernateListener implements PostInsertEventListener, PostUpdateEventListener,
+        PostDeleteEventListener {
+
+    private final ObjectProvider<OutboxService> outboxService;
+
+    public OutboxHibernateListener(ObjectProvider<OutboxService> outboxService) {
+        this.outboxService = outboxService;
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        append(event.getSession(), event.getEntity(), "CREATED");
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        Object entity = event.getEntity();
+        if (!(entity instanceof Role || entity instanceof User || entity instanceof Fact)) return;
+
+        String eventType = "UPDATED";
+        Object[] oldState = event.getOldState();
+        if (oldState != null) {
+            String[] names = event.getPersister().getPropertyNames();
+            if (changed(names, oldState, event.getState(), "deleted")) {
+                eventType = Boolean.TRUE.equals(value(names, event.getState(), "deleted")) ? "SOFT_DELETED" : "RESTORED";
+            } else if (changed(names, oldState, event.getState(), "published")) {
+                eventType = Boolean.TRUE.equals(value(names, event.getState(), "published")) ? "PUBLISHED" : "UNPUBLISHED";
+            }
+        }
+        append(event.getSession(), entity, eventType);
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        append(event.getSession(), event.getEntity(), "DELETED");
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    private void append(EventSource session, Object entity, String eventType) {
+        switch (entity) {
+            case Role r -> outboxService.getObject().append(session, "ROLE", r.getId(), eventType, RoleResponse.from(r));
+            case User u -> outboxService.getObject().append(session, "USER", u.getId(), eventType, UserSummaryDTO.fromEntity(u));
+            case Fact f -> {
+                // Un dato creado ya publicado cuenta como publicación
+                String type = "CREATED".equals(eventType) && f.isPublished() && !f.isDeleted() ? "PUBLISHED" : eventType;
+                outboxService.getObject().append(session, "FACT", f.getId(), type, FactResponse.from(f));
+            }
+            default -> { }
+        }
+    }
+
+    private static boolean changed(String[] names, Object[] oldState, Object[] newState, String property) {
+        int i = indexOf(names, property);
+        return i >= 0 && !Objects.equals(oldState[i], newState[i]);
+    }
+
+    private static Object value(String[] names, Object[] state, String property) {
+        int i = indexOf(names, property);
+        return i >= 0 ? state[i] : null;
+    }
+
+    private static int indexOf(String[] names, String property) {
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equals(property)) return i;
+        }
+        return -1;
+    }
+}
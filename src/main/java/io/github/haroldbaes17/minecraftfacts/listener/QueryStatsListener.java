@@ -0,0 +1,37 @@
+package io.github.haroldbaes17.minecraftfacts.listener;
+
+import io.github.haroldbaes17.minecraftfacts.filter.QueryStats;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Anota cada sentencia ejecutada por el DataSource (vía datasource-proxy) en el {@link QueryStats} actual.
+ * Un batch JDBC cuenta como una sentencia. El tiempo se mide aquí con {@code System.nanoTime()}:
+ * {@code ExecutionInfo.getElapsedTime()} solo tiene resolución de milisegundos.
+ */
+public class QueryStatsListener implements QueryExecutionListener {
+
+    private static final String START_NANOS = QueryStatsListener.class.getName() + ".start";
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (QueryStats.current() != null) execInfo.addCustomValue(START_NANOS, System.nanoTime());
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        long end = System.nanoTime();
+        QueryStats stats = QueryStats.current();
+        if (stats == null) return;
+        Long start = execInfo.getCustomValue(START_NANOS, Long.class);
+
+        String sql = queryInfoList.stream().map(QueryInfo::getQuery).collect(Collectors.joining("; "));
+        if (execInfo.isBatch()) sql = "[batch x" + execInfo.getBatchSize() + "] " + sql;
+        stats.record(sql, start != null ? end - start : TimeUnit.MILLISECONDS.toNanos(execInfo.getElapsedTime()));
+    }
+}
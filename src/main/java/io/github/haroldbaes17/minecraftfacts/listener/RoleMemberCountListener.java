@@ -0,0 +1,73 @@
+package io.github.haroldbaes17.minecraftfacts.listener;
+
+import io.github.haroldbaes17.minecraftfacts.model.User;
+import io.github.haroldbaes17.minecraftfacts.service.RoleMemberCountService;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.event.spi.*;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Mantiene {@code role_member_counts} cuando cambia la colección {@code User.roles}.
+ * <p>
+ * Lee las filas de {@code user_roles} del usuario antes y después de que Hibernate escriba la
+ * colección, así el resultado no depende de si la colección estaba inicializada.
+ */
+@Component
+public class RoleMemberCountListener implements PostCollectionRecreateEventListener,
+        PreCollectionUpdateEventListener, PostCollectionUpdateEventListener, PreCollectionRemoveEventListener {
+
+    private static final String USER_ROLES = User.class.getName() + ".roles";
+
+    private final ObjectProvider<RoleMemberCountService> roleMemberCountService;
+
+    // Filas previas de cada colección entre el pre y el post update del mismo flush
+    private final Map<PersistentCollection<?>, List<Long>> before =
+            Collections.synchronizedMap(new IdentityHashMap<>());
+
+    public RoleMemberCountListener(ObjectProvider<RoleMemberCountService> roleMemberCountService) {
+        this.roleMemberCountService = roleMemberCountService;
+    }
+
+    @Override
+    public void onPostRecreateCollection(PostCollectionRecreateEvent event) {
+        if (!applies(event)) return;
+        RoleMemberCountService service = roleMemberCountService.getObject();
+        Long userId = (Long) event.getAffectedOwnerIdOrNull();
+        service.apply(event.getSession(), List.of(), service.memberRoleIds(event.getSession(), userId));
+    }
+
+    @Override
+    public void onPreUpdateCollection(PreCollectionUpdateEvent event) {
+        if (!applies(event)) return;
+        Long userId = (Long) event.getAffectedOwnerIdOrNull();
+        before.put(event.getCollection(), roleMemberCountService.getObject().memberRoleIds(event.getSession(), userId));
+    }
+
+    @Override
+    public void onPostUpdateCollection(PostCollectionUpdateEvent event) {
+        if (!applies(event)) return;
+        List<Long> previous = before.remove(event.getCollection());
+        if (previous == null) return;
+        RoleMemberCountService service = roleMemberCountService.getObject();
+        Long userId = (Long) event.getAffectedOwnerIdOrNull();
+        service.apply(event.getSession(), previous, service.memberRoleIds(event.getSession(), userId));
+    }
+
+    @Override
+    public void onPreRemoveCollection(PreCollectionRemoveEvent event) {
+        if (!applies(event)) return;
+        RoleMemberCountService service = roleMemberCountService.getObject();
+        Long userId = (Long) event.getAffectedOwnerIdOrNull();
+        service.apply(event.getSession(), service.memberRoleIds(event.getSession(), userId), List.of());
+    }
+
+    private static boolean applies(AbstractCollectionEvent event) {
+        return USER_ROLES.equals(event.getCollection().getRole()) && event.getAffectedOwnerIdOrNull() != null;
+    }
+}
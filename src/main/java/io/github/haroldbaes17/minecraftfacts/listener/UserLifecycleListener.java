@@ -0,0 +1,30 @@
+package io.github.haroldbaes17.minecraftfacts.listener;
+
+import io.github.haroldbaes17.minecraftfacts.model.User;
+import io.github.haroldbaes17.minecraftfacts.service.UserAvailabilityService;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * Añade al filtro de disponibilidad los usernames / emails nuevos tras el commit, para que una
+ * reconstrucción en curso los reciba o los lea de la tabla.
+ */
+@Component
+public class UserLifecycleListener {
+
+    private final ObjectProvider<UserAvailabilityService> userAvailabilityService;
+
+    public UserLifecycleListener(ObjectProvider<UserAvailabilityService> userAvailabilityService) {
+        this.userAvailabilityService = userAvailabilityService;
+    }
+
+    @PostPersist
+    @PostUpdate
+    void onSave(User user) {
+        String username = user.getUsernameNormalized();
+        String email = user.getEmailNormalized();
+        AfterCommit.run(() -> userAvailabilityService.getObject().remember(username, email));
+    }
+}
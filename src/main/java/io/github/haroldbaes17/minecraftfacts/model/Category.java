@@ -7,9 +7,12 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity @Table(name = "categories",
         uniqueConstraints = @UniqueConstraint(name = "uk_categories_slug", columnNames = "slug"))
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "categories")
 @Data @NoArgsConstructor @AllArgsConstructor @Builder
 public class Category {
 
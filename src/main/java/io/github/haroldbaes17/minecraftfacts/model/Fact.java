@@ -1,5 +1,6 @@
 package io.github.haroldbaes17.minecraftfacts.model;
 
+import io.github.haroldbaes17.minecraftfacts.listener.FactLifecycleListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
@@ -7,6 +8,9 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Filter;
 import org.hibernate.validator.constraints.URL;
 
 import java.time.Instant;
@@ -15,8 +19,15 @@ import java.util.Set;
 @Entity @Table(name = "facts",
         indexes = {
                 @Index(name = "idx_facts_title", columnList = "title"),
-                @Index(name = "idx_facts_published", columnList = "published")
+                // Listados "publicados y activos" ordenados por fecha
+                @Index(name = "idx_facts_published_deleted_created", columnList = "published, deleted, createdAt"),
+                // Papelera ordenada por fecha de borrado y purga por retención
+                @Index(name = "idx_facts_deleted_deleted_at", columnList = "deleted, deletedAt")
         })
+@Filter(name = "activeOnly")
+@EntityListeners(FactLifecycleListener.class)
+// Se cachean todos los datos; en la práctica solo los publicados se leen con frecuencia
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "facts")
 @Data @NoArgsConstructor @AllArgsConstructor @Builder
 public class Fact {
 
@@ -68,6 +79,15 @@ public class Fact {
     @Column(nullable = false)
     private boolean deleted = false;
 
+    // Momento en que entró en la papelera; la purga programada cuenta la retención desde aquí
+    private Instant deletedAt;
+
+    public void setDeleted(boolean deleted) {
+        if (deleted && !this.deleted) this.deletedAt = Instant.now();
+        if (!deleted) this.deletedAt = null;
+        this.deleted = deleted;
+    }
+
     @PreUpdate
     void onUpdate() {
         this.updatedAt = Instant.now();
@@ -0,0 +1,35 @@
+package io.github.haroldbaes17.minecraftfacts.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Entity @Table(name = "idempotency_keys",
+        indexes = @Index(name = "idx_idempotency_expires", columnList = "expiresAt"))
+@Data @NoArgsConstructor @AllArgsConstructor @Builder
+public class IdempotencyRecord {
+
+    // scope + ":" + valor de la cabecera Idempotency-Key
+    @Id
+    @Column(name = "idempotency_key", length = 200)
+    private String key;
+
+    // SHA-256 del cuerpo de la solicitud original
+    @Column(nullable = false, length = 64)
+    private String fingerprint;
+
+    @Lob
+    @Column(nullable = false, columnDefinition = "MEDIUMTEXT")
+    private String responseJson;
+
+    @Column(nullable = false, updatable = false)
+    @Builder.Default
+    private Instant createdAt = Instant.now();
+
+    @Column(nullable = false)
+    private Instant expiresAt;
+}
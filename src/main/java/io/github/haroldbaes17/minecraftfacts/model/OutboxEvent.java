@@ -0,0 +1,44 @@
+package io.github.haroldbaes17.minecraftfacts.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Entity @Table(name = "outbox_events",
+        indexes = {
+                @Index(name = "idx_outbox_published", columnList = "publishedAt, id"),
+                @Index(name = "idx_outbox_created", columnList = "createdAt")
+        })
+@Data @NoArgsConstructor @AllArgsConstructor @Builder
+public class OutboxEvent {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // ROLE, USER, FACT
+    @Column(nullable = false, length = 32)
+    private String aggregateType;
+
+    @Column(nullable = false)
+    private Long aggregateId;
+
+    // CREATED, UPDATED, SOFT_DELETED, RESTORED, PUBLISHED, UNPUBLISHED, DELETED
+    @Column(nullable = false, length = 32)
+    private String eventType;
+
+    @Lob
+    @Column(nullable = false, columnDefinition = "MEDIUMTEXT")
+    private String payload;
+
+    @Column(nullable = false, updatable = false)
+    @Builder.Default
+    private Instant createdAt = Instant.now();
+
+    // Solo lo usa la entrega por webhook; null = pendiente.
+    // claim_token / claimed_until (reclamación de lote) se gestionan con SQL nativo en el repositorio
+    private Instant publishedAt;
+}
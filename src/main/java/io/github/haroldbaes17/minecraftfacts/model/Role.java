@@ -5,9 +5,20 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Filter;
+
+import java.time.Instant;
 
 @Entity @Table(name = "roles",
-        uniqueConstraints = @UniqueConstraint(name = "uk_roles_name", columnNames = "name"))
+        uniqueConstraints = @UniqueConstraint(name = "uk_roles_name", columnNames = "name"),
+        indexes = {
+                @Index(name = "idx_roles_deleted_name", columnList = "deleted, name"),
+                @Index(name = "idx_roles_deleted_deleted_at", columnList = "deleted, deletedAt")
+        })
+@Filter(name = "activeOnly")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "roles")
 @Data @NoArgsConstructor @AllArgsConstructor @Builder
 public class Role {
 
@@ -24,4 +35,13 @@ public class Role {
 
     @Column(nullable = false)
     private boolean deleted = false;
+
+    // Momento en que entró en la papelera; la purga programada cuenta la retención desde aquí
+    private Instant deletedAt;
+
+    public void setDeleted(boolean deleted) {
+        if (deleted && !this.deleted) this.deletedAt = Instant.now();
+        if (!deleted) this.deletedAt = null;
+        this.deleted = deleted;
+    }
 }
@@ -0,0 +1,24 @@
+package io.github.haroldbaes17.minecraftfacts.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * Número de usuarios de cada rol. Lo mantiene {@code RoleMemberCountListener} con JDBC cada vez
+ * que cambia {@code user_roles}; desde JPA solo se lee.
+ */
+@Entity @Table(name = "role_member_counts")
+@Immutable
+@Data @NoArgsConstructor @AllArgsConstructor
+public class RoleMemberCount {
+
+    @Id
+    @Column(name = "role_id")
+    private Long roleId;
+
+    @Column(nullable = false)
+    private long memberCount;
+}
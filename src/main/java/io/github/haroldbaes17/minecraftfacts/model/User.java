@@ -1,5 +1,6 @@
 package io.github.haroldbaes17.minecraftfacts.model;
 
+import io.github.haroldbaes17.minecraftfacts.listener.UserLifecycleListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
@@ -8,13 +9,18 @@ import lombok.*;
 
 import java.time.Instant;
 import java.util.HashSet;
+import java.util.Locale;
 import java.util.Set;
 
 @Entity @Table(name = "users",
         uniqueConstraints = {
                 @UniqueConstraint(name = "uk_users_username", columnNames = "username"),
-                @UniqueConstraint(name = "uk_users_email", columnNames = "email")
+                @UniqueConstraint(name = "uk_users_email", columnNames = "email"),
+                // Búsquedas sin distinguir mayúsculas y autocompletado por prefijo
+                @UniqueConstraint(name = "uk_users_username_normalized", columnNames = "usernameNormalized"),
+                @UniqueConstraint(name = "uk_users_email_normalized", columnNames = "emailNormalized")
         })
+@EntityListeners(UserLifecycleListener.class)
 @Data @NoArgsConstructor @AllArgsConstructor @Builder
 public class User {
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -28,6 +34,13 @@ public class User {
     @Column(nullable = false, length = 254)
     private String email;
 
+    // Copias en minúsculas de username / email; las mantiene normalize()
+    @Column(nullable = false, length = 32)
+    private String usernameNormalized;
+
+    @Column(nullable = false, length = 254)
+    private String emailNormalized;
+
     @NotBlank @Size(min = 60, max = 100)
     @Column(nullable = false, length = 100)
     private String passwordHash;
@@ -50,9 +63,24 @@ public class User {
     @Column(nullable = false)
     private Instant updatedAt = Instant.now();
 
+    @PrePersist
+    void onCreate() {
+        normalize();
+    }
+
     @PreUpdate
     void onUpdate() {
+        normalize();
         this.updatedAt = Instant.now();
     }
 
+    private void normalize() {
+        this.usernameNormalized = normalize(username);
+        this.emailNormalized = normalize(email);
+    }
+
+    public static String normalize(String value) {
+        return value == null ? null : value.trim().toLowerCase(Locale.ROOT);
+    }
+
 }
@@ -0,0 +1,11 @@
+/**
+ * Entidades JPA.
+ * <p>
+ * El filtro {@code activeOnly} oculta las filas con borrado lógico en todas las consultas por
+ * defecto; las búsquedas por id no se filtran. Para ver la papelera se desactiva con
+ * {@link io.github.haroldbaes17.minecraftfacts.service.SoftDeleteFilter}.
+ */
+@FilterDef(name = "activeOnly", defaultCondition = "deleted = false", autoEnabled = true)
+package io.github.haroldbaes17.minecraftfacts.model;
+
+import org.hibernate.annotations.FilterDef;
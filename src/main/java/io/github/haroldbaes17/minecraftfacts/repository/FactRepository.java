@@ -0,0 +1,41 @@
+package io.github.haroldbaes17.minecraftfacts.repository;
+
+import io.github.haroldbaes17.minecraftfacts.model.Fact;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+public interface FactRepository extends JpaRepository<Fact, Long> {
+
+    // Solo ids: alimenta el índice en memoria de datos elegibles (publicados y no borrados)
+    @Query("select f.id from Fact f where f.published = true and f.deleted = false")
+    List<Long> findEligibleIds();
+
+    @Query("select f.id, c.id from Fact f join f.categories c where f.published = true and f.deleted = false")
+    List<Object[]> findEligibleIdCategoryPairs();
+
+    // Papelera: requiere el filtro activeOnly desactivado (SoftDeleteFilter.withDeleted)
+    Slice<Fact> findByDeletedTrue(Pageable pageable);
+    long countByDeletedTrue();
+
+    // FOR UPDATE: las filas elegidas son exactamente las que borra el lote (nadie las restaura entre medias)
+    @Query(value = "select f.id from facts f where f.deleted = true and f.deleted_at < :cutoff "
+            + "order by f.deleted_at limit :limit for update skip locked", nativeQuery = true)
+    List<Long> findPurgeableIds(@Param("cutoff") Instant cutoff, @Param("limit") int limit);
+
+    // fact_categories no tiene cascada: se borra primero
+    @Modifying
+    @Query(value = "delete from fact_categories where fact_id in :ids", nativeQuery = true)
+    int purgeCategoryLinks(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query(value = "delete from facts where id in :ids and deleted = true", nativeQuery = true)
+    int purgeByIds(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,31 @@
+package io.github.haroldbaes17.minecraftfacts.repository;
+
+import io.github.haroldbaes17.minecraftfacts.model.IdempotencyRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Optional;
+
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+    Optional<IdempotencyRecord> findByKeyAndExpiresAtAfter(String key, Instant now);
+
+    // Gana el primero: una clave vigente no se sobrescribe; una caducada (aún sin purgar) sí.
+    // expires_at va al final porque MySQL evalúa las asignaciones en orden
+    @Modifying
+    @Query(value = "insert into idempotency_keys (idempotency_key, fingerprint, response_json, created_at, expires_at) "
+            + "values (:key, :fingerprint, :body, :now, :expiresAt) "
+            + "on duplicate key update "
+            + "fingerprint = if(expires_at < :now, values(fingerprint), fingerprint), "
+            + "response_json = if(expires_at < :now, values(response_json), response_json), "
+            + "created_at = if(expires_at < :now, values(created_at), created_at), "
+            + "expires_at = if(expires_at < :now, values(expires_at), expires_at)", nativeQuery = true)
+    int insertIfAbsent(@Param("key") String key, @Param("fingerprint") String fingerprint, @Param("body") String body,
+                       @Param("now") Instant now, @Param("expiresAt") Instant expiresAt);
+
+    @Modifying
+    @Query("delete from IdempotencyRecord r where r.expiresAt < :now")
+    int deleteExpired(@Param("now") Instant now);
+}
@@ -0,0 +1,51 @@
+package io.github.haroldbaes17.minecraftfacts.repository;
+
+import io.github.haroldbaes17.minecraftfacts.model.OutboxEvent;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    List<OutboxEvent> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    // Huecos del cursor que pueden haber hecho commit más tarde
+    List<OutboxEvent> findByIdIn(Collection<Long> ids);
+
+    List<OutboxEvent> findByIdGreaterThanAndIdLessThanEqualOrderByIdAsc(Long fromExclusive, Long toInclusive, Limit limit);
+
+    @Query("select coalesce(max(e.id), 0) from OutboxEvent e")
+    long findMaxId();
+
+    // Reclama un lote pendiente sin reclamar (o con la reclamación vencida); otra instancia que
+    // compita espera el bloqueo de fila y vuelve a evaluar el where, así no repite filas
+    @Modifying
+    @Query(value = "update outbox_events set claim_token = :token, claimed_until = :until "
+            + "where published_at is null and (claimed_until is null or claimed_until < :now) "
+            + "order by id limit :limit", nativeQuery = true)
+    int claimUnpublished(@Param("token") String token, @Param("now") Instant now,
+                         @Param("until") Instant until, @Param("limit") int limit);
+
+    @Query(value = "select * from outbox_events where claim_token = :token order by id", nativeQuery = true)
+    List<OutboxEvent> findClaimed(@Param("token") String token);
+
+    @Modifying
+    @Query(value = "update outbox_events set claim_token = null, claimed_until = null "
+            + "where claim_token = :token and published_at is null", nativeQuery = true)
+    int releaseClaim(@Param("token") String token);
+
+    @Modifying
+    @Query(value = "update outbox_events set published_at = :now, claim_token = null, claimed_until = null "
+            + "where claim_token = :token", nativeQuery = true)
+    int markPublished(@Param("token") String token, @Param("now") Instant now);
+
+    @Modifying
+    @Query("delete from OutboxEvent e where e.createdAt < :cutoff")
+    int deleteOlderThan(@Param("cutoff") Instant cutoff);
+}
@@ -0,0 +1,45 @@
+package io.github.haroldbaes17.minecraftfacts.repository;
+
+import io.github.haroldbaes17.minecraftfacts.model.RoleMemberCount;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+public interface RoleMemberCountRepository extends JpaRepository<RoleMemberCount, Long> {
+
+    // FOR UPDATE: bloquea los contadores (o su hueco) hasta el commit, así nadie asigna el rol
+    // mientras se borra
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c.roleId from RoleMemberCount c where c.roleId in :roleIds and c.memberCount > 0")
+    Set<Long> lockRoleIdsInUse(@Param("roleIds") Collection<Long> roleIds);
+
+    /* ========= Reconciliación (un rol por transacción) ========= */
+    // Nativo: incluye los roles en la papelera, que siguen teniendo contador
+    @Query(value = "select id from roles order by id", nativeQuery = true)
+    List<Long> findAllRoleIds();
+
+    @Modifying
+    @Query(value = "insert ignore into role_member_counts (role_id, member_count) values (:roleId, 0)",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("roleId") Long roleId);
+
+    // FOR UPDATE: espera a las transacciones que ya aplicaron su delta y bloquea las siguientes
+    @Query(value = "select member_count from role_member_counts where role_id = :roleId for update",
+            nativeQuery = true)
+    long lockCount(@Param("roleId") Long roleId);
+
+    @Query(value = "select count(*) from user_roles where role_id = :roleId", nativeQuery = true)
+    long countMembers(@Param("roleId") Long roleId);
+
+    @Modifying
+    @Query(value = "update role_member_counts set member_count = :count where role_id = :roleId",
+            nativeQuery = true)
+    int setCount(@Param("roleId") Long roleId, @Param("count") long count);
+}
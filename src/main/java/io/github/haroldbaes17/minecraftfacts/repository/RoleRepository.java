@@ -1,28 +1,66 @@
 package io.github.haroldbaes17.minecraftfacts.repository;
 
 import io.github.haroldbaes17.minecraftfacts.model.Role;
-import org.springframework.data.domain.Page;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface RoleRepository extends JpaRepository<Role, Long> {
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "role-queries")
+    })
     Optional<Role> findByName(String name);
-    Page<Role> findByNameContainingIgnoreCaseOrDescriptionContainingIgnoreCase(
+
+    // Slice: sin COUNT; el total se pide aparte con los count* cuando el cliente lo quiere
+    Slice<Role> findAllBy(Pageable pageable);
+
+    Slice<Role> findByNameContainingIgnoreCaseOrDescriptionContainingIgnoreCase(
             String namePart, String descPart, Pageable pageable);
+    long countByNameContainingIgnoreCaseOrDescriptionContainingIgnoreCase(String namePart, String descPart);
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "role-queries")
+    })
     boolean existsByName(String name);
 
-    List<Role> findAllByDeleted(boolean deleted);
+    // Los nombres se guardan normalizados (ROLE_MAYUSCULAS): name LIKE 'q%' usa el índice
+    Slice<Role> findByNameStartingWith(String prefix, Pageable pageable);
+    long countByNameStartingWith(String prefix);
+
+    List<Role> findByNameStartingWithOrderByNameAsc(String prefix, Limit limit);
 
+    // Papelera: requiere el filtro activeOnly desactivado (SoftDeleteFilter.withDeleted)
+    Slice<Role> findByDeletedTrue(Pageable pageable);
+    long countByDeletedTrue();
+
+    // Hibernate invalida la región "roles" y las consultas cacheadas sobre la tabla tras un update bulk
     @Modifying(clearAutomatically = true, flushAutomatically = true)
-    @Query("update Role r set r.deleted = true where r.id in :ids and r.deleted = false")
-    int softDeleteByIds(@Param("ids") Collection<Long> ids);
+    @Query("update Role r set r.deleted = true, r.deletedAt = :now where r.id in :ids and r.deleted = false")
+    int softDeleteByIds(@Param("ids") Collection<Long> ids, @Param("now") Instant now);
+
+    // Caducados y sin usuarios (user_roles tiene FK sin cascada). FOR UPDATE: las filas elegidas son
+    // exactamente las que borra el lote; una asignación en curso bloquea el rol y se salta
+    @Query(value = "select r.id from roles r where r.deleted = true and r.deleted_at < :cutoff "
+            + "and not exists (select 1 from user_roles ur where ur.role_id = r.id) "
+            + "order by r.deleted_at limit :limit for update of r skip locked", nativeQuery = true)
+    List<Long> findPurgeableIds(@Param("cutoff") Instant cutoff, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "delete from roles where id in :ids and deleted = true", nativeQuery = true)
+    int purgeByIds(@Param("ids") Collection<Long> ids);
 
 }
@@ -1,24 +1,52 @@
 package io.github.haroldbaes17.minecraftfacts.repository;
 
 import io.github.haroldbaes17.minecraftfacts.model.User;
-import org.springframework.data.domain.Page;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
-import java.util.Set;
+import java.util.stream.Stream;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByUsername(String username);
     Optional<User> findByEmail(String email);
 
-    Page<User> findDistinctByRoles_Id(Long roleId, Pageable pageable);
+    // Columnas normalizadas (minúsculas) con índice único: el argumento debe venir normalizado
+    Optional<User> findByUsernameNormalized(String usernameNormalized);
+    Optional<User> findByEmailNormalized(String emailNormalized);
 
-    boolean existsByRoles_Id(Long roleId);
+    boolean existsByUsernameNormalized(String usernameNormalized);
+    boolean existsByEmailNormalized(String emailNormalized);
 
-    @Query("select distinct r.id from User u join u.roles r where r.id in :roleIds")
-    Set<Long> findRoleIdsInUse(@Param("roleIds") Collection<Long> roleIds);
+    // Recorre la tabla sin cargar entidades; fetch size MIN_VALUE = streaming en MySQL Connector/J
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "-2147483648"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select u.usernameNormalized, u.emailNormalized from User u")
+    Stream<Object[]> streamNormalizedIdentities();
+
+    // Autocompletado: usernameNormalized LIKE 'q%' sobre el índice; solo se lee el username
+    List<UsernameOnly> findByUsernameNormalizedStartingWithOrderByUsernameNormalizedAsc(String prefix, Limit limit);
+
+    interface UsernameOnly {
+        String getUsername();
+    }
+
+    // El total sale de role_member_counts, no de un COUNT(DISTINCT)
+    Slice<User> findDistinctByRoles_Id(Long roleId, Pageable pageable);
+
+    // Varios roles: Slice evita el COUNT(DISTINCT) de Page
+    Slice<User> findDistinctByRoles_IdIn(Collection<Long> roleIds, Pageable pageable);
+
+    // Primeros N miembros de un rol por username normalizado (sin DISTINCT: user_roles no repite pares)
+    List<User> findByRoles_IdOrderByUsernameNormalizedAsc(Long roleId, Limit limit);
 }
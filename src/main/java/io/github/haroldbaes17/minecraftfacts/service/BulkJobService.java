@@ -0,0 +1,166 @@
+package io.github.haroldbaes17.minecraftfacts.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.haroldbaes17.minecraftfacts.config.BulkJobProperties;
+import io.github.haroldbaes17.minecraftfacts.dto.RoleDTO.*;
+import io.github.haroldbaes17.minecraftfacts.exception.BulkJobRejectedException;
+import io.github.haroldbaes17.minecraftfacts.exception.ResourceNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Ejecuta bulk delete / restore como jobs en segundo plano.
+ * <p>
+ * Los ids se procesan por bloques; cada bloque pasa por {@link RoleService} y por tanto usa su
+ * propia transacción, así un lote grande no retiene una conexión durante toda la operación.
+ */
+@Service
+public class BulkJobService {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkJobService.class);
+
+    public enum JobType { DELETE, RESTORE }
+
+    public enum JobStatus { QUEUED, RUNNING, COMPLETED, FAILED }
+
+    private final RoleService roleService;
+    private final ThreadPoolTaskExecutor bulkJobExecutor;
+    private final BulkJobProperties properties;
+    // Jobs en cola o en curso: no caducan ni se desalojan mientras se ejecutan
+    private final Map<String, BulkJob> active = new ConcurrentHashMap<>();
+    // Jobs terminados: retención y tamaño máximo solo aplican aquí
+    private final Cache<String, BulkJob> finished;
+
+    public BulkJobService(RoleService roleService, ThreadPoolTaskExecutor bulkJobExecutor,
+                          BulkJobProperties properties) {
+        this.roleService = roleService;
+        this.bulkJobExecutor = bulkJobExecutor;
+        this.properties = properties;
+        this.finished = Caffeine.newBuilder()
+                .maximumSize(properties.maxJobs())
+                .expireAfterWrite(properties.retention())
+                .build();
+    }
+
+    public BulkJobResponse submitDelete(BulkDeleteRolesRequest req) {
+        return submit(JobType.DELETE, req.ids(), chunk -> {
+            BulkDeleteRolesResponse res = roleService.bulkDelete(new BulkDeleteRolesRequest(chunk));
+            return new ChunkResult(res.deleted(), res.skipped(), List.of());
+        });
+    }
+
+    public BulkJobResponse submitRestore(BulkRestoreRolesRequest req) {
+        return submit(JobType.RESTORE, req.ids(), chunk -> {
+            BulkRestoreRolesResponse res = roleService.bulkRestore(new BulkRestoreRolesRequest(chunk));
+            return new ChunkResult(res.restored(), List.of(), res.skipped());
+        });
+    }
+
+    public BulkJobResponse get(String id) {
+        BulkJob job = active.get(id);
+        if (job == null) job = finished.getIfPresent(id);
+        if (job == null) throw new ResourceNotFoundException("Job not found");
+        return job.toResponse();
+    }
+
+    /* ========= Helpers ========= */
+    private BulkJobResponse submit(JobType type, List<Long> input, Function<List<Long>, ChunkResult> chunkAction) {
+        List<Long> requested = Optional.ofNullable(input).orElse(List.of());
+        List<Long> uniqueIds = requested.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new))
+                .stream().toList();
+
+        BulkJob job = new BulkJob(UUID.randomUUID().toString(), type, requested.size(), uniqueIds.size());
+        active.put(job.id, job);
+
+        try {
+            bulkJobExecutor.execute(() -> run(job, uniqueIds, chunkAction));
+        } catch (TaskRejectedException e) {
+            active.remove(job.id);
+            throw new BulkJobRejectedException("Too many bulk jobs in progress. Try again later.");
+        }
+        return job.toResponse();
+    }
+
+    private void run(BulkJob job, List<Long> ids, Function<List<Long>, ChunkResult> chunkAction) {
+        job.start();
+        try {
+            int chunkSize = Math.max(1, properties.chunkSize());
+            for (int from = 0; from < ids.size(); from += chunkSize) {
+                List<Long> chunk = ids.subList(from, Math.min(from + chunkSize, ids.size()));
+                job.add(chunk.size(), chunkAction.apply(new ArrayList<>(chunk)));
+            }
+            job.finish(null);
+        } catch (RuntimeException e) {
+            log.error("Bulk {} job {} failed", job.type, job.id, e);
+            job.finish(e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+        } finally {
+            // La retención cuenta desde que terminó; se publica antes de quitarlo de active para no dejar un hueco
+            finished.put(job.id, job);
+            active.remove(job.id);
+        }
+    }
+
+    private record ChunkResult(int succeeded, List<BulkDeleteSkipped> deleteSkipped,
+                               List<BulkRestoreSkipped> restoreSkipped) {}
+
+    private static final class BulkJob {
+        private final String id;
+        private final JobType type;
+        private final int requested;
+        private final int total;
+        private final Instant createdAt = Instant.now();
+
+        private JobStatus status = JobStatus.QUEUED;
+        private int processed;
+        private int succeeded;
+        private final List<BulkDeleteSkipped> deleteSkipped = new ArrayList<>();
+        private final List<BulkRestoreSkipped> restoreSkipped = new ArrayList<>();
+        private Instant finishedAt;
+        private String error;
+
+        BulkJob(String id, JobType type, int requested, int total) {
+            this.id = id;
+            this.type = type;
+            this.requested = requested;
+            this.total = total;
+        }
+
+        synchronized void start() {
+            status = JobStatus.RUNNING;
+        }
+
+        synchronized void add(int chunkSize, ChunkResult result) {
+            processed += chunkSize;
+            succeeded += result.succeeded();
+            deleteSkipped.addAll(result.deleteSkipped());
+            restoreSkipped.addAll(result.restoreSkipped());
+        }
+
+        synchronized void finish(String error) {
+            this.error = error;
+            this.status = error == null ? JobStatus.COMPLETED : JobStatus.FAILED;
+            this.finishedAt = Instant.now();
+        }
+
+        synchronized BulkJobResponse toResponse() {
+            return new BulkJobResponse(
+                    id, type.name(), status.name(), requested, total, processed, succeeded,
+                    type == JobType.DELETE ? List.copyOf(deleteSkipped) : null,
+                    type == JobType.RESTORE ? List.copyOf(restoreSkipped) : null,
+                    createdAt, finishedAt, error
+            );
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package io.github.haroldbaes17.minecraftfacts.service;
+
+import io.github.haroldbaes17.minecraftfacts.dto.CacheRegionStats;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Estadísticas de la caché de segundo nivel de Hibernate por región. Solo hay datos con
+ * {@code HIBERNATE_STATISTICS=true}; por defecto está desactivado por su coste en cada sesión.
+ */
+@Service
+@RequiredArgsConstructor
+public class CacheStatsService {
+
+    private static final List<String> QUERY_REGIONS = List.of("default-query-results-region", "role-queries");
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public List<CacheRegionStats> regionStats() {
+        Statistics stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        if (!stats.isStatisticsEnabled()) return List.of();
+        List<CacheRegionStats> result = new ArrayList<>();
+
+        for (String region : stats.getSecondLevelCacheRegionNames()) {
+            CacheRegionStatistics r = stats.getDomainDataRegionStatistics(region);
+            if (r == null) continue;
+            result.add(CacheRegionStats.of(region, "entity", r.getHitCount(), r.getMissCount(),
+                    r.getPutCount(), r.getElementCountInMemory()));
+        }
+        for (String region : QUERY_REGIONS) {
+            CacheRegionStatistics r = stats.getQueryRegionStatistics(region);
+            if (r == null) continue;
+            result.add(CacheRegionStats.of(region, "query", r.getHitCount(), r.getMissCount(),
+                    r.getPutCount(), r.getElementCountInMemory()));
+        }
+        return result;
+    }
+
+    public void evictAll() {
+        entityManagerFactory.getCache().evictAll();
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictQueryRegions();
+    }
+}
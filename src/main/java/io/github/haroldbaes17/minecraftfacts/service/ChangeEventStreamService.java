@@ -0,0 +1,92 @@
+package io.github.haroldbaes17.minecraftfacts.service;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.github.haroldbaes17.minecraftfacts.config.OutboxProperties;
+import io.github.haroldbaes17.minecraftfacts.dto.ChangeEvent;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.SequencedMap;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Reenvía los {@link ChangeEvent} a los clientes conectados por SSE, cada uno con su cola de
+ * envío ({@link SseSubscriber}).
+ * El stream es público: los campos personales del payload ({@link #PRIVATE_FIELDS}) no se envían.
+ */
+@Service
+public class ChangeEventStreamService {
+
+    // El outbox los conserva para los consumidores internos (filtro de disponibilidad, webhook)
+    static final Set<String> PRIVATE_FIELDS = Set.of("email");
+
+    private final OutboxRelay outboxRelay;
+    private final OutboxProperties properties;
+    private final TaskExecutor sendExecutor;
+
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+
+    public ChangeEventStreamService(OutboxRelay outboxRelay, OutboxProperties properties,
+                                    @Qualifier("sseSendExecutor") TaskExecutor sendExecutor) {
+        this.outboxRelay = outboxRelay;
+        this.properties = properties;
+        this.sendExecutor = sendExecutor;
+    }
+
+    public SseEmitter subscribe(Long lastEventId, Set<String> aggregateTypes) {
+        SseEmitter emitter = new SseEmitter(0L);
+        // Como máximo max-catch-up eventos pendientes por cliente
+        Subscriber subscriber = new Subscriber(new SseSubscriber(emitter, sendExecutor, properties.maxCatchUp()),
+                aggregateTypes);
+
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+
+        // Primero se registra: lo que el relay publique mientras se lee la reanudación queda retenido
+        subscribers.add(subscriber);
+        SequencedMap<Long, Set<DataWithMediaType>> replay = new LinkedHashMap<>();
+        if (lastEventId != null) {
+            for (ChangeEvent e : outboxRelay.readAfter(lastEventId, properties.maxCatchUp())) {
+                if (subscriber.wants(e)) replay.put(e.id(), toEvent(publicView(e)));
+            }
+        }
+        if (!subscriber.sse().catchUp(replay)) subscribers.remove(subscriber);
+        return emitter;
+    }
+
+    @EventListener
+    public void onChange(ChangeEvent event) {
+        Set<DataWithMediaType> frame = toEvent(publicView(event));
+        for (Subscriber s : subscribers) {
+            if (s.wants(event) && !s.sse().offer(event.id(), frame)) subscribers.remove(s);
+        }
+    }
+
+    static ChangeEvent publicView(ChangeEvent e) {
+        if (!(e.payload() instanceof ObjectNode payload) || PRIVATE_FIELDS.stream().noneMatch(payload::has)) return e;
+        ObjectNode redacted = payload.deepCopy();
+        redacted.remove(PRIVATE_FIELDS);
+        return new ChangeEvent(e.id(), e.aggregateType(), e.aggregateId(), e.eventType(), redacted, e.occurredAt());
+    }
+
+    private static Set<DataWithMediaType> toEvent(ChangeEvent e) {
+        return SseSubscriber.frame(SseEmitter.event()
+                .id(Long.toString(e.id()))
+                .name(e.aggregateType() + "_" + e.eventType())
+                .data(e));
+    }
+
+    private record Subscriber(SseSubscriber sse, Set<String> aggregateTypes) {
+        boolean wants(ChangeEvent e) {
+            return aggregateTypes.isEmpty() || aggregateTypes.contains(e.aggregateType());
+        }
+    }
+}
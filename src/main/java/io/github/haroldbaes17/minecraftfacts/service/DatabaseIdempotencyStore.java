@@ -0,0 +1,51 @@
+package io.github.haroldbaes17.minecraftfacts.service;
+
+import io.github.haroldbaes17.minecraftfacts.config.IdempotencyProperties;
+import io.github.haroldbaes17.minecraftfacts.repository.IdempotencyRecordRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Store compartido entre instancias: las respuestas se guardan en {@code idempotency_keys}.
+ * Se registra siempre (ver {@link IdempotencyService}); la purga solo corre con {@code idempotency.store=database}.
+ */
+@Component
+@RequiredArgsConstructor
+public class DatabaseIdempotencyStore implements IdempotencyStore {
+
+    private static final Logger log = LoggerFactory.getLogger(DatabaseIdempotencyStore.class);
+
+    private final IdempotencyRecordRepository repository;
+    private final IdempotencyProperties properties;
+
+    @Override
+    public Optional<StoredResponse> find(String key) {
+        return repository.findByKeyAndExpiresAtAfter(key, Instant.now())
+                .map(r -> new StoredResponse(r.getFingerprint(), r.getResponseJson()));
+    }
+
+    // Un único INSERT ... ON DUPLICATE KEY: si otra instancia guardó la clave primero, se conserva la suya
+    @Override
+    @Transactional
+    public void save(String key, StoredResponse response, Duration ttl) {
+        Instant now = Instant.now();
+        int affected = repository.insertIfAbsent(key, response.fingerprint(), response.body(), now, now.plus(ttl));
+        if (affected == 0) log.debug("Idempotency key {} already stored", key);
+    }
+
+    @Scheduled(fixedDelayString = "${idempotency.purge-interval:PT10M}")
+    @Transactional
+    public void purgeExpired() {
+        if (!IdempotencyProperties.DATABASE.equals(properties.store())) return;
+        int removed = repository.deleteExpired(Instant.now());
+        if (removed > 0) log.debug("Purged {} expired idempotency keys", removed);
+    }
+}
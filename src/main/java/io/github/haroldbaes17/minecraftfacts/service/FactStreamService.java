@@ -0,0 +1,126 @@
+package io.github.haroldbaes17.minecraftfacts.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.haroldbaes17.minecraftfacts.config.FactStreamProperties;
+import io.github.haroldbaes17.minecraftfacts.dto.ChangeEvent;
+import io.github.haroldbaes17.minecraftfacts.dto.FactDTO.FactResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.SequencedMap;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Difunde por SSE los datos recién publicados.
+ * <p>
+ * Los eventos llegan del outbox ({@link OutboxRelay}) y se guardan en un único buffer circular
+ * compartido por todos los clientes: reanudar con {@code Last-Event-ID} lee del buffer, sin
+ * consultar la BD. Cada cliente tiene su cola de envío ({@link SseSubscriber}); el relay solo encola.
+ */
+@Service
+public class FactStreamService {
+
+    private static final Logger log = LoggerFactory.getLogger(FactStreamService.class);
+
+    private final ObjectMapper objectMapper;
+    private final TaskExecutor sendExecutor;
+    private final FactStreamProperties properties;
+    private final Entry[] ring;
+    // Posición absoluta de la próxima escritura; ring[next % length]
+    private long next = 0;
+
+    private final List<SseSubscriber> subscribers = new CopyOnWriteArrayList<>();
+
+    public FactStreamService(ObjectMapper objectMapper, @Qualifier("sseSendExecutor") TaskExecutor sendExecutor,
+                             FactStreamProperties properties) {
+        this.objectMapper = objectMapper;
+        this.sendExecutor = sendExecutor;
+        this.properties = properties;
+        this.ring = new Entry[properties.bufferSize()];
+    }
+
+    public SseEmitter subscribe(Long lastEventId) {
+        SseEmitter emitter = new SseEmitter(0L);
+        SseSubscriber subscriber = new SseSubscriber(emitter, sendExecutor, properties.maxQueuedPerClient());
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+
+        // Primero se registra: lo publicado mientras se lee el buffer queda retenido en el suscriptor
+        subscribers.add(subscriber);
+        SequencedMap<Long, Set<DataWithMediaType>> replay = new LinkedHashMap<>();
+        if (lastEventId != null) {
+            for (Entry e : readAfter(lastEventId)) replay.put(e.id(), toEvent(e));
+        }
+        if (!subscriber.catchUp(replay)) subscribers.remove(subscriber);
+        return emitter;
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    @EventListener
+    public void onChange(ChangeEvent event) {
+        if (!"FACT".equals(event.aggregateType()) || !"PUBLISHED".equals(event.eventType())) return;
+
+        Entry entry;
+        try {
+            entry = new Entry(event.id(), objectMapper.treeToValue(event.payload(), FactResponse.class));
+        } catch (JsonProcessingException e) {
+            log.warn("Invalid fact payload in change event {}", event.id(), e);
+            return;
+        }
+        append(entry);
+        Set<DataWithMediaType> frame = toEvent(entry);
+        for (SseSubscriber s : subscribers) {
+            if (!s.offer(entry.id(), frame)) subscribers.remove(s);
+        }
+    }
+
+    // Comentario periódico: mantiene vivas las conexiones y detecta clientes desconectados
+    @Scheduled(fixedDelayString = "${fact-stream.heartbeat:PT30S}")
+    public void heartbeat() {
+        Set<DataWithMediaType> keepalive = SseSubscriber.frame(SseEmitter.event().comment("keepalive"));
+        for (SseSubscriber s : subscribers) {
+            if (!s.offer(-1, keepalive)) subscribers.remove(s);
+        }
+    }
+
+    /* ========= Buffer circular ========= */
+    private synchronized void append(Entry entry) {
+        ring[(int) (next % ring.length)] = entry;
+        next++;
+    }
+
+    private synchronized List<Entry> readAfter(long lastEventId) {
+        List<Entry> out = new ArrayList<>();
+        long oldest = Math.max(0, next - ring.length);
+        for (long i = oldest; i < next; i++) {
+            Entry e = ring[(int) (i % ring.length)];
+            if (e.id() > lastEventId) out.add(e);
+        }
+        return out;
+    }
+
+    private static Set<DataWithMediaType> toEvent(Entry entry) {
+        return SseSubscriber.frame(SseEmitter.event()
+                .id(Long.toString(entry.id()))
+                .name("fact")
+                .data(entry.fact()));
+    }
+
+    private record Entry(long id, FactResponse fact) {}
+}
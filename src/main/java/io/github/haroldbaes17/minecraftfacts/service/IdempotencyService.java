@@ -0,0 +1,143 @@
+package io.github.haroldbaes17.minecraftfacts.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.haroldbaes17.minecraftfacts.config.IdempotencyProperties;
+import io.github.haroldbaes17.minecraftfacts.exception.IdempotencyInProgressException;
+import io.github.haroldbaes17.minecraftfacts.exception.IdempotencyKeyReuseException;
+import io.github.haroldbaes17.minecraftfacts.service.IdempotencyStore.StoredResponse;
+import jakarta.validation.ConstraintViolationException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * Soporte de la cabecera {@code Idempotency-Key}.
+ * <p>
+ * La primera ejecución guarda su respuesta; los reintentos con la misma clave la reciben
+ * sin volver a ejecutar la operación. Los duplicados concurrentes en la misma instancia esperan
+ * a la primera ejecución. Las ejecuciones fallidas no se guardan, así el cliente puede reintentar.
+ * <p>
+ * El store se elige aquí según {@code idempotency.store} y no con {@code @ConditionalOnProperty}:
+ * con Spring AOT (perfiles faststart y native) las condiciones quedan fijadas al compilar.
+ */
+@Service
+public class IdempotencyService {
+
+    public static final String HEADER = "Idempotency-Key";
+
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private final IdempotencyStore store;
+    private final IdempotencyProperties properties;
+    private final ObjectMapper objectMapper;
+
+    private final Map<String, CompletableFuture<StoredResponse>> inFlight = new ConcurrentHashMap<>();
+
+    @Autowired
+    public IdempotencyService(InMemoryIdempotencyStore memoryStore, DatabaseIdempotencyStore databaseStore,
+                              IdempotencyProperties properties, ObjectMapper objectMapper) {
+        this(switch (properties.store()) {
+            case IdempotencyProperties.MEMORY -> memoryStore;
+            case IdempotencyProperties.DATABASE -> databaseStore;
+            default -> throw new IllegalStateException("Unknown idempotency.store: " + properties.store()
+                    + " (expected memory or database)");
+        }, properties, objectMapper);
+    }
+
+    IdempotencyService(IdempotencyStore store, IdempotencyProperties properties, ObjectMapper objectMapper) {
+        this.store = store;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+    }
+
+    public <T> T execute(String idempotencyKey, String scope, Object request,
+                         Class<T> responseType, Supplier<T> action) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return action.get();
+        }
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new ConstraintViolationException("Idempotency-Key is too long", Set.of());
+        }
+
+        String key = scope + ":" + idempotencyKey;
+        String fingerprint = fingerprint(request);
+
+        Optional<StoredResponse> stored = store.find(key);
+        if (stored.isPresent()) {
+            return replay(stored.get(), fingerprint, responseType);
+        }
+
+        CompletableFuture<StoredResponse> mine = new CompletableFuture<>();
+        CompletableFuture<StoredResponse> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            return replay(await(running), fingerprint, responseType);
+        }
+
+        try {
+            // Pudo completarse entre la consulta al store y el registro en vuelo
+            stored = store.find(key);
+            if (stored.isPresent()) {
+                mine.complete(stored.get());
+                return replay(stored.get(), fingerprint, responseType);
+            }
+
+            T result = action.get();
+            StoredResponse response = new StoredResponse(fingerprint, objectMapper.writeValueAsString(result));
+            store.save(key, response, properties.ttl());
+            mine.complete(response);
+            return result;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } catch (JsonProcessingException e) {
+            mine.completeExceptionally(e);
+            throw new IllegalStateException("Could not store idempotent response", e);
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private StoredResponse await(CompletableFuture<StoredResponse> running) {
+        try {
+            return running.get(properties.waitTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new IdempotencyInProgressException("A request with this Idempotency-Key is still in progress");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyInProgressException("Interrupted while waiting for the original request");
+        } catch (ExecutionException e) {
+            // La ejecución original falló: el duplicado recibe el mismo error
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private <T> T replay(StoredResponse stored, String fingerprint, Class<T> responseType) {
+        if (!stored.fingerprint().equals(fingerprint)) {
+            throw new IdempotencyKeyReuseException("Idempotency-Key was already used with a different request");
+        }
+        try {
+            return objectMapper.readValue(stored.body(), responseType);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not read idempotent response", e);
+        }
+    }
+
+    private String fingerprint(Object request) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(request);
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Could not fingerprint request", e);
+        }
+    }
+}
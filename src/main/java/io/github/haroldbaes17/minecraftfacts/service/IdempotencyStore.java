@@ -0,0 +1,16 @@
+package io.github.haroldbaes17.minecraftfacts.service;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Almacén de respuestas ya completadas para solicitudes con cabecera {@code Idempotency-Key}.
+ */
+public interface IdempotencyStore {
+
+    record StoredResponse(String fingerprint, String body) {}
+
+    Optional<StoredResponse> find(String key);
+
+    void save(String key, StoredResponse response, Duration ttl);
+}
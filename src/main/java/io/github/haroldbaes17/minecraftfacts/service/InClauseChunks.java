@@ -0,0 +1,48 @@
+package io.github.haroldbaes17.minecraftfacts.service;
+
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Ejecuta una consulta con {@code IN (...)} por bloques para colecciones de ids grandes.
+ * <p>
+ * Los ids se deduplican y se parten en bloques de {@link #MAX_CHUNK}; el relleno hasta la siguiente
+ * potencia de dos lo hace Hibernate ({@code in_clause_parameter_padding}), así que las consultas
+ * deben ser JPQL o derivadas, no nativas. Los bloques se ejecutan en la transacción de quien llama.
+ */
+final class InClauseChunks {
+
+    // Potencia de dos (coincide con un tamaño de relleno); mantiene cada sentencia muy por debajo de max_allowed_packet
+    static final int MAX_CHUNK = 512;
+
+    private InClauseChunks() {
+    }
+
+    static <T, R> List<R> list(Collection<T> ids, Function<List<T>, ? extends Collection<R>> query) {
+        List<R> results = new ArrayList<>();
+        forEachChunk(ids, chunk -> results.addAll(query.apply(chunk)));
+        return results;
+    }
+
+    static <T, R> Set<R> set(Collection<T> ids, Function<List<T>, ? extends Collection<R>> query) {
+        Set<R> results = new HashSet<>();
+        forEachChunk(ids, chunk -> results.addAll(query.apply(chunk)));
+        return results;
+    }
+
+    static <T> List<List<T>> chunks(Collection<T> ids) {
+        List<T> unique = new ArrayList<>(new LinkedHashSet<>(ids));
+        List<List<T>> chunks = new ArrayList<>((unique.size() + MAX_CHUNK - 1) / MAX_CHUNK);
+        for (int from = 0; from < unique.size(); from += MAX_CHUNK) {
+            chunks.add(unique.subList(from, Math.min(from + MAX_CHUNK, unique.size())));
+        }
+        return chunks;
+    }
+
+    private static <T> void forEachChunk(Collection<T> ids, Consumer<List<T>> action) {
+        for (List<T> chunk : chunks(ids)) {
+            action.accept(chunk);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package io.github.haroldbaes17.minecraftfacts.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.haroldbaes17.minecraftfacts.config.IdempotencyProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+// Se registra siempre, igual que DatabaseIdempotencyStore; IdempotencyService elige uno al arrancar
+@Component
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+    private final Cache<String, StoredResponse> responses;
+
+    public InMemoryIdempotencyStore(IdempotencyProperties properties) {
+        // El TTL es el mismo para todas las claves, así que basta con expireAfterWrite
+        this.responses = Caffeine.newBuilder()
+                .maximumSize(properties.maxEntries())
+                .expireAfterWrite(properties.ttl())
+                .build();
+    }
+
+    @Override
+    public Optional<StoredResponse> find(String key) {
+        return Optional.ofNullable(responses.getIfPresent(key));
+    }
+
+    @Override
+    public void save(String key, StoredResponse response, Duration ttl) {
+        responses.put(key, response);
+    }
+}
@@ -0,0 +1,74 @@
+package io.github.haroldbaes17.minecraftfacts.service;
+
+import io.github.haroldbaes17.minecraftfacts.config.MultiGetProperties;
+import io.github.haroldbaes17.minecraftfacts.dto.FactDTO.FactResponse;
+import io.github.haroldbaes17.minecraftfacts.dto.MultiGetResponse;
+import io.github.haroldbaes17.minecraftfacts.dto.RoleDTO.RoleResponse;
+import io.github.haroldbaes17.minecraftfacts.model.Fact;
+import io.github.haroldbaes17.minecraftfacts.model.Role;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import jakarta.validation.ConstraintViolationException;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Búsqueda de varios roles o datos curiosos por id en una sola petición.
+ * <p>
+ * Usa {@code multiLoad} de Hibernate: primero la sesión y la caché L2, luego una consulta
+ * {@code IN} por lote solo para los ids que falten.
+ */
+@Service
+@RequiredArgsConstructor
+public class MultiGetService {
+
+    private final EntityManager entityManager;
+    private final MultiGetProperties properties;
+
+    // Igual que /roles/findById: los roles en la papelera se devuelven con deleted = true
+    @Transactional
+    public MultiGetResponse<RoleResponse> roles(List<Long> ids) {
+        return load(Role.class, ids, Role::getId, r -> true, RoleResponse::from);
+    }
+
+    // Los datos borrados o sin publicar cuentan como no encontrados
+    @Transactional
+    public MultiGetResponse<FactResponse> facts(List<Long> ids) {
+        return load(Fact.class, ids, Fact::getId, f -> f.isPublished() && !f.isDeleted(), FactResponse::from);
+    }
+
+    private <E, T> MultiGetResponse<T> load(Class<E> type, List<Long> ids, Function<E, Long> idOf,
+                                            Predicate<E> visible, Function<E, T> mapper) {
+        List<Long> requested = ids == null ? List.of() : ids;
+        if (requested.isEmpty()) throw new ConstraintViolationException("ids is required", Set.of());
+        if (requested.size() > properties.maxIds())
+            throw new ConstraintViolationException("Too many ids (max " + properties.maxIds() + ")", Set.of());
+        if (requested.stream().anyMatch(Objects::isNull)) throw new ConstraintViolationException("Invalid id", Set.of());
+
+        List<Long> unique = List.copyOf(new LinkedHashSet<>(requested));
+        List<E> loaded = entityManager.unwrap(Session.class)
+                .byMultipleIds(type)
+                .withBatchSize(properties.batchSize())
+                .enableOrderedReturn(false)
+                .multiLoad(unique);
+
+        Map<Long, T> byId = new HashMap<>();
+        for (E entity : loaded) {
+            if (entity != null && visible.test(entity)) byId.put(idOf.apply(entity), mapper.apply(entity));
+        }
+
+        List<MultiGetResponse.Item<T>> items = new ArrayList<>(requested.size());
+        int found = 0;
+        for (Long id : requested) {
+            T value = byId.get(id);
+            if (value != null) found++;
+            items.add(new MultiGetResponse.Item<>(id, value != null, value));
+        }
+        return new MultiGetResponse<>(requested.size(), found, items);
+    }
+}
@@ -0,0 +1,63 @@
+package io.github.haroldbaes17.minecraftfacts.service;
+
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Cerrojo con nombre de MySQL ({@code GET_LOCK}) para tareas programadas que solo debe ejecutar
+ * una instancia a la vez. El cerrojo pertenece a la conexión, así que se reserva una del pool
+ * mientras dura la tarea; si la instancia muere, MySQL lo libera al cerrarse la conexión.
+ * Las transacciones de la tarea toman otra conexión del pool: una tarea con cerrojo ocupa dos
+ * (la purga de la papelera, hasta {@code trash.max-run-time}), algo a tener en cuenta al fijar
+ * {@code spring.datasource.hikari.maximum-pool-size}.
+ */
+@Component
+@RequiredArgsConstructor
+public class NamedLock {
+
+    private static final Logger log = LoggerFactory.getLogger(NamedLock.class);
+
+    private final DataSource dataSource;
+
+    // false si otra instancia tiene el cerrojo; no espera
+    public boolean runExclusively(String name, Runnable action) {
+        try (Connection connection = dataSource.getConnection()) {
+            if (!acquire(connection, name)) return false;
+            try {
+                action.run();
+                return true;
+            } finally {
+                release(connection, name);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not use lock " + name, e);
+        }
+    }
+
+    private static boolean acquire(Connection connection, String name) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement("select get_lock(?, 0)")) {
+            ps.setString(1, name);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() && rs.getInt(1) == 1;
+            }
+        }
+    }
+
+    private static void release(Connection connection, String name) {
+        try (PreparedStatement ps = connection.prepareStatement("select release_lock(?)")) {
+            ps.setString(1, name);
+            ps.executeQuery().close();
+        } catch (SQLException e) {
+            // Se libera igualmente al devolver/cerrar la conexión
+            log.warn("Could not release lock {}", name, e);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package io.github.haroldbaes17.minecraftfacts.service;
+
+import io.github.haroldbaes17.minecraftfacts.config.OutboxProperties;
+import io.github.haroldbaes17.minecraftfacts.dto.ChangeEvent;
+import io.github.haroldbaes17.minecraftfacts.model.OutboxEvent;
+import io.github.haroldbaes17.minecraftfacts.repository.OutboxEventRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lee el outbox por lotes y publica cada evento como {@link ChangeEvent} a los listeners
+ * de la aplicación. Cada instancia lleva su propio cursor, así todas ven todos los cambios.
+ * <p>
+ * Los ids AUTO_INCREMENT se asignan al insertar, no al hacer commit: una transacción lenta puede
+ * confirmar un id menor que otros ya leídos. Los ids que el cursor salta quedan como huecos y se
+ * vuelven a consultar en cada pasada hasta que aparecen o caducan ({@code outbox.gap-timeout},
+ * tras el cual se asume rollback o un id no usado).
+ */
+@Service
+@RequiredArgsConstructor
+public class OutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxService outboxService;
+    private final ApplicationEventPublisher publisher;
+    private final OutboxProperties properties;
+
+    // -1 = sin inicializar; al arrancar se empieza desde el último evento existente
+    private final AtomicLong cursor = new AtomicLong(-1);
+    // Ids por debajo del cursor aún no vistos -> momento en que se detectó el hueco
+    private final ConcurrentSkipListMap<Long, Instant> gaps = new ConcurrentSkipListMap<>();
+
+    @Scheduled(fixedDelayString = "${outbox.relay-interval:PT1S}")
+    public void relay() {
+        if (cursor.get() < 0) {
+            cursor.set(outboxEventRepository.findMaxId());
+        }
+
+        Instant now = Instant.now();
+        recheckGaps(now);
+
+        List<OutboxEvent> batch;
+        do {
+            batch = outboxEventRepository.findByIdGreaterThanOrderByIdAsc(cursor.get(), Limit.of(properties.batchSize()));
+            for (OutboxEvent e : batch) {
+                for (long id = cursor.get() + 1; id < e.getId() && gaps.size() < properties.maxGaps(); id++) {
+                    gaps.put(id, now);
+                }
+                publish(e);
+                cursor.set(e.getId());
+            }
+        } while (batch.size() == properties.batchSize());
+    }
+
+    public long cursor() {
+        return cursor.get();
+    }
+
+    // Eventos ya publicados por esta instancia a partir de lastEventId (reanudación de clientes)
+    public List<ChangeEvent> readAfter(long lastEventId, int max) {
+        return outboxEventRepository.findByIdGreaterThanAndIdLessThanEqualOrderByIdAsc(
+                        lastEventId, cursor.get(), Limit.of(max))
+                .stream()
+                .filter(e -> !gaps.containsKey(e.getId()))
+                .map(outboxService::toChangeEvent)
+                .toList();
+    }
+
+    @Scheduled(cron = "${outbox.purge-cron:0 30 * * * *}")
+    @Transactional
+    public void purge() {
+        int removed = outboxEventRepository.deleteOlderThan(Instant.now().minus(properties.retention()));
+        if (removed > 0) log.info("Purged {} outbox events", removed);
+    }
+
+    /* ========= Helpers ========= */
+    // Publica los eventos que confirmaron tarde y descarta los huecos caducados
+    private void recheckGaps(Instant now) {
+        if (gaps.isEmpty()) return;
+
+        List<OutboxEvent> late = InClauseChunks.list(List.copyOf(gaps.keySet()), outboxEventRepository::findByIdIn);
+        late.sort(Comparator.comparing(OutboxEvent::getId));
+        for (OutboxEvent e : late) {
+            if (gaps.remove(e.getId()) != null) publish(e);
+        }
+
+        Instant expiredBefore = now.minus(properties.gapTimeout());
+        gaps.values().removeIf(seen -> seen.isBefore(expiredBefore));
+    }
+
+    private void publish(OutboxEvent e) {
+        try {
+            publisher.publishEvent(outboxService.toChangeEvent(e));
+        } catch (RuntimeException ex) {
+            // Un listener con fallos no debe bloquear el resto del stream
+            log.warn("Change event {} listener failed", e.getId(), ex);
+        }
+    }
+}
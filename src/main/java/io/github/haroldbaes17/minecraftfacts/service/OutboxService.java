@@ -0,0 +1,61 @@
+package io.github.haroldbaes17.minecraftfacts.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.haroldbaes17.minecraftfacts.dto.ChangeEvent;
+import io.github.haroldbaes17.minecraftfacts.model.OutboxEvent;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.springframework.stereotype.Service;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Instant;
+
+/**
+ * Escritura y lectura de la tabla {@code outbox_events}.
+ */
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+
+    private static final String INSERT_SQL = "insert into outbox_events "
+            + "(aggregate_type, aggregate_id, event_type, payload, created_at) values (?, ?, ?, ?, ?)";
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Inserta el evento con la conexión de la sesión, dentro de la transacción que provocó el cambio.
+     * Se usa JDBC directo porque se llama durante el flush de Hibernate.
+     */
+    public void append(Session session, String aggregateType, Long aggregateId, String eventType, Object payload) {
+        String json = toJson(payload);
+        session.doWork(connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(INSERT_SQL)) {
+                ps.setString(1, aggregateType);
+                ps.setLong(2, aggregateId);
+                ps.setString(3, eventType);
+                ps.setString(4, json);
+                ps.setTimestamp(5, Timestamp.from(Instant.now()));
+                ps.executeUpdate();
+            }
+        });
+    }
+
+    public ChangeEvent toChangeEvent(OutboxEvent e) {
+        try {
+            return new ChangeEvent(e.getId(), e.getAggregateType(), e.getAggregateId(), e.getEventType(),
+                    objectMapper.readTree(e.getPayload()), e.getCreatedAt());
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Invalid outbox payload for event " + e.getId(), ex);
+        }
+    }
+
+    private String toJson(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize outbox payload", e);
+        }
+    }
+}
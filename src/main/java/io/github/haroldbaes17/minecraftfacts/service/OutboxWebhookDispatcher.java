@@ -0,0 +1,87 @@
+package io.github.haroldbaes17.minecraftfacts.service;
+
+import io.github.haroldbaes17.minecraftfacts.config.OutboxProperties;
+import io.github.haroldbaes17.minecraftfacts.dto.ChangeEvent;
+import io.github.haroldbaes17.minecraftfacts.model.OutboxEvent;
+import io.github.haroldbaes17.minecraftfacts.repository.OutboxEventRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Entrega los eventos del outbox a un webhook externo, al menos una vez.
+ * <p>
+ * Cada lote se reclama con un token y un plazo ({@code outbox.webhook-lease}) en una transacción
+ * corta; el POST se hace sin transacción ni conexión del pool, y después se marca el lote como
+ * publicado. Si el POST falla se libera la reclamación; si la instancia cae, el plazo vence y otra
+ * instancia lo reintenta.
+ * <p>
+ * Se registra siempre y no hace nada con {@code outbox.webhook-url} vacío: una condición sobre la
+ * URL quedaría fijada al compilar con Spring AOT (perfiles faststart y native).
+ */
+@Service
+public class OutboxWebhookDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxWebhookDispatcher.class);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxService outboxService;
+    private final OutboxProperties properties;
+    private final TransactionTemplate tx;
+    private final RestClient restClient;
+
+    public OutboxWebhookDispatcher(OutboxEventRepository outboxEventRepository, OutboxService outboxService,
+                                   OutboxProperties properties, PlatformTransactionManager transactionManager,
+                                   RestClient.Builder restClientBuilder) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxService = outboxService;
+        this.properties = properties;
+        this.tx = new TransactionTemplate(transactionManager);
+
+        // El POST debe terminar antes de que venza la reclamación
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(properties.webhookTimeout());
+        requestFactory.setReadTimeout(properties.webhookTimeout());
+        if (!properties.webhookUrl().isBlank()) restClientBuilder.baseUrl(properties.webhookUrl());
+        this.restClient = restClientBuilder.requestFactory(requestFactory).build();
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.webhook-interval:PT5S}")
+    public void dispatch() {
+        if (properties.webhookUrl().isBlank()) return;
+        String token = UUID.randomUUID().toString();
+        List<OutboxEvent> batch = tx.execute(status -> {
+            Instant now = Instant.now();
+            int claimed = outboxEventRepository.claimUnpublished(token, now, now.plus(properties.webhookLease()),
+                    properties.batchSize());
+            return claimed == 0 ? List.<OutboxEvent>of() : outboxEventRepository.findClaimed(token);
+        });
+        if (batch == null || batch.isEmpty()) return;
+
+        List<ChangeEvent> events = batch.stream().map(outboxService::toChangeEvent).toList();
+        try {
+            restClient.post()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(events)
+                    .retrieve()
+                    .toBodilessEntity();
+        } catch (RestClientException e) {
+            log.warn("Webhook delivery of {} outbox events failed; will retry", events.size(), e);
+            tx.executeWithoutResult(status -> outboxEventRepository.releaseClaim(token));
+            return;
+        }
+
+        tx.executeWithoutResult(status -> outboxEventRepository.markPublished(token, Instant.now()));
+    }
+}
@@ -0,0 +1,305 @@
+package io.github.haroldbaes17.minecraftfacts.service;
+
+import io.github.haroldbaes17.minecraftfacts.dto.FactDTO.FactResponse;
+import io.github.haroldbaes17.minecraftfacts.exception.ResourceNotFoundException;
+import io.github.haroldbaes17.minecraftfacts.repository.FactRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * Selección aleatoria de datos curiosos sin {@code ORDER BY RAND()}.
+ * <p>
+ * Mantiene en memoria un arreglo denso con los ids elegibles (publicados y no borrados),
+ * global y por categoría. Elegir un dato es O(1) sobre el arreglo más una única búsqueda
+ * por clave primaria; el dato del día se calcula una vez y se sirve desde memoria.
+ */
+@Service
+@RequiredArgsConstructor
+public class RandomFactService {
+
+    private static final Logger log = LoggerFactory.getLogger(RandomFactService.class);
+
+    // Reintentos si el id elegido desapareció entre el muestreo y la lectura
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final FactRepository factRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Index index = new Index();
+    private volatile boolean loaded = false;
+    private volatile DailyFact daily;
+    // Cambios incrementales recibidos mientras reload() lee la BD; se reaplican sobre el índice nuevo
+    private List<Consumer<Index>> pendingDuringReload;
+
+    /* ========= Carga del índice ========= */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void reload() {
+        lock.writeLock().lock();
+        try {
+            pendingDuringReload = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Index fresh = new Index();
+        factRepository.findEligibleIds().forEach(fresh.all::add);
+
+        Map<Long, List<Long>> categoriesByFact = new HashMap<>();
+        for (Object[] row : factRepository.findEligibleIdCategoryPairs()) {
+            categoriesByFact.computeIfAbsent((Long) row[0], k -> new ArrayList<>()).add((Long) row[1]);
+        }
+        categoriesByFact.forEach((factId, categoryIds) -> fresh.putCategories(factId, toArray(categoryIds)));
+
+        int replayed;
+        lock.writeLock().lock();
+        try {
+            // La lectura puede no incluir cambios confirmados mientras se hacía: se reaplican (son idempotentes)
+            replayed = pendingDuringReload.size();
+            pendingDuringReload.forEach(change -> change.accept(fresh));
+            pendingDuringReload = null;
+            index = fresh;
+            daily = null;
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (replayed > 0) log.debug("Replayed {} fact changes received during reload", replayed);
+        log.info("Random fact index loaded: {} eligible facts in {} categories",
+                fresh.all.size(), fresh.byCategory.size());
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return index.all.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Ids elegibles ordenados; para tests
+    long[] eligibleIds() {
+        lock.readLock().lock();
+        try {
+            return index.all.sortedCopy();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /* ========= Mantenimiento incremental ========= */
+    public void onFactSaved(long factId, boolean eligible, long[] categoryIds) {
+        if (!eligible) {
+            onFactRemoved(factId);
+            return;
+        }
+        apply(idx -> {
+            idx.removeCategories(factId);
+            idx.all.add(factId);
+            idx.putCategories(factId, categoryIds);
+        });
+    }
+
+    public void onFactRemoved(long factId) {
+        apply(idx -> {
+            idx.all.remove(factId);
+            idx.removeCategories(factId);
+        });
+        DailyFact current = daily;
+        if (current != null && current.fact().id() == factId) {
+            daily = null;
+        }
+    }
+
+    /* ========= Lectura ========= */
+    public FactResponse random() {
+        return pickAndLoad(() -> sample(index.all));
+    }
+
+    public FactResponse random(Long categoryId) {
+        return pickAndLoad(() -> sample(index.byCategory.get(categoryId)));
+    }
+
+    // Elige una categoría proporcionalmente a su peso y luego un dato uniforme dentro de ella
+    public FactResponse randomWeighted(Map<Long, Integer> weightsByCategory) {
+        return pickAndLoad(() -> {
+            long total = 0;
+            for (Map.Entry<Long, Integer> e : weightsByCategory.entrySet()) {
+                DenseIdSet ids = index.byCategory.get(e.getKey());
+                if (ids != null && ids.size() > 0 && e.getValue() > 0) total += e.getValue();
+            }
+            if (total == 0) return null;
+
+            long r = ThreadLocalRandom.current().nextLong(total);
+            for (Map.Entry<Long, Integer> e : weightsByCategory.entrySet()) {
+                DenseIdSet ids = index.byCategory.get(e.getKey());
+                if (ids == null || ids.size() == 0 || e.getValue() <= 0) continue;
+                r -= e.getValue();
+                if (r < 0) return sample(ids);
+            }
+            return null;
+        });
+    }
+
+    // Mismo dato para todos los nodos durante el día (UTC): semilla = día, ids ordenados
+    public FactResponse daily() {
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        DailyFact current = daily;
+        if (current != null && current.date().equals(today)) {
+            return current.fact();
+        }
+
+        FactResponse fact = pickAndLoad(() -> {
+            long[] sorted = index.all.sortedCopy();
+            if (sorted.length == 0) return null;
+            SplittableRandom seeded = new SplittableRandom(today.toEpochDay());
+            return sorted[seeded.nextInt(sorted.length)];
+        });
+        daily = new DailyFact(today, fact);
+        return fact;
+    }
+
+    /* ========= Helpers ========= */
+    private void apply(Consumer<Index> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(index);
+            if (pendingDuringReload != null) pendingDuringReload.add(change);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private FactResponse pickAndLoad(IdPicker picker) {
+        ensureLoaded();
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            Long id;
+            lock.readLock().lock();
+            try {
+                id = picker.pick();
+            } finally {
+                lock.readLock().unlock();
+            }
+            if (id == null) break;
+
+            Optional<FactResponse> fact = factRepository.findById(id)
+                    .filter(f -> f.isPublished() && !f.isDeleted())
+                    .map(FactResponse::from);
+            if (fact.isPresent()) return fact.get();
+
+            // El índice quedó desfasado respecto a la BD: se corrige y se reintenta
+            onFactRemoved(id);
+        }
+        throw new ResourceNotFoundException("No facts available");
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            synchronized (this) {
+                if (!loaded) reload();
+            }
+        }
+    }
+
+    private static Long sample(DenseIdSet ids) {
+        if (ids == null || ids.size() == 0) return null;
+        return ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+    }
+
+    private static long[] toArray(List<Long> values) {
+        long[] out = new long[values.size()];
+        for (int i = 0; i < out.length; i++) out[i] = values.get(i);
+        return out;
+    }
+
+    @FunctionalInterface
+    private interface IdPicker {
+        Long pick();
+    }
+
+    private record DailyFact(LocalDate date, FactResponse fact) {}
+
+    private static final class Index {
+        private final DenseIdSet all = new DenseIdSet();
+        private final Map<Long, DenseIdSet> byCategory = new HashMap<>();
+        private final Map<Long, long[]> categoriesByFact = new HashMap<>();
+
+        void putCategories(long factId, long[] categoryIds) {
+            if (categoryIds == null || categoryIds.length == 0) return;
+            categoriesByFact.put(factId, categoryIds);
+            for (long categoryId : categoryIds) {
+                byCategory.computeIfAbsent(categoryId, k -> new DenseIdSet()).add(factId);
+            }
+        }
+
+        void removeCategories(long factId) {
+            long[] categoryIds = categoriesByFact.remove(factId);
+            if (categoryIds == null) return;
+            for (long categoryId : categoryIds) {
+                DenseIdSet ids = byCategory.get(categoryId);
+                if (ids == null) continue;
+                ids.remove(factId);
+                if (ids.size() == 0) byCategory.remove(categoryId);
+            }
+        }
+    }
+
+    /**
+     * Conjunto de ids sobre un arreglo compacto: alta, baja (swap con el último) y acceso
+     * por posición en O(1).
+     */
+    static final class DenseIdSet {
+        private long[] ids = new long[16];
+        private int size = 0;
+        private final Map<Long, Integer> positions = new HashMap<>();
+
+        void add(long id) {
+            if (positions.containsKey(id)) return;
+            if (size == ids.length) ids = Arrays.copyOf(ids, size * 2);
+            ids[size] = id;
+            positions.put(id, size);
+            size++;
+        }
+
+        void remove(long id) {
+            Integer pos = positions.remove(id);
+            if (pos == null) return;
+            int last = --size;
+            if (pos != last) {
+                long moved = ids[last];
+                ids[pos] = moved;
+                positions.put(moved, pos);
+            }
+        }
+
+        long get(int position) {
+            return ids[position];
+        }
+
+        int size() {
+            return size;
+        }
+
+        long[] sortedCopy() {
+            long[] copy = Arrays.copyOf(ids, size);
+            Arrays.sort(copy);
+            return copy;
+        }
+    }
+}
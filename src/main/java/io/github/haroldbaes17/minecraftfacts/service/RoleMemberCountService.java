@@ -0,0 +1,122 @@
+package io.github.haroldbaes17.minecraftfacts.service;
+
+import io.github.haroldbaes17.minecraftfacts.model.RoleMemberCount;
+import io.github.haroldbaes17.minecraftfacts.repository.RoleMemberCountRepository;
+import org.hibernate.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Contadores de miembros por rol ({@code role_member_counts}).
+ * <p>
+ * Las escrituras se hacen con la conexión de la sesión durante el flush, en la misma transacción
+ * que el cambio de {@code user_roles}; las lecturas son una consulta por clave primaria.
+ */
+@Service
+public class RoleMemberCountService {
+
+    private static final Logger log = LoggerFactory.getLogger(RoleMemberCountService.class);
+
+    private static final String MEMBER_ROLES_SQL = "select role_id from user_roles where user_id = ?";
+    private static final String UPSERT_SQL = "insert into role_member_counts (role_id, member_count) values (?, ?) "
+            + "on duplicate key update member_count = member_count + values(member_count)";
+
+    private final RoleMemberCountRepository roleMemberCountRepository;
+    private final TransactionTemplate tx;
+
+    public RoleMemberCountService(RoleMemberCountRepository roleMemberCountRepository,
+                                  PlatformTransactionManager transactionManager) {
+        this.roleMemberCountRepository = roleMemberCountRepository;
+        this.tx = new TransactionTemplate(transactionManager);
+    }
+
+    /* ========= Lectura ========= */
+    public long count(Long roleId) {
+        return roleMemberCountRepository.findById(roleId)
+                .map(RoleMemberCount::getMemberCount)
+                .orElse(0L);
+    }
+
+    public Map<Long, Long> counts(Collection<Long> roleIds) {
+        if (roleIds.isEmpty()) return Map.of();
+        return roleMemberCountRepository.findAllById(roleIds).stream()
+                .collect(Collectors.toMap(RoleMemberCount::getRoleId, RoleMemberCount::getMemberCount));
+    }
+
+    // Requiere transacción: los contadores quedan bloqueados hasta el commit
+    public Set<Long> lockRoleIdsInUse(Collection<Long> roleIds) {
+        if (roleIds.isEmpty()) return Set.of();
+        return InClauseChunks.set(roleIds, roleMemberCountRepository::lockRoleIdsInUse);
+    }
+
+    /* ========= Escritura (desde el listener, durante el flush) ========= */
+    public List<Long> memberRoleIds(Session session, Long userId) {
+        return session.doReturningWork(connection -> {
+            List<Long> ids = new ArrayList<>();
+            try (PreparedStatement ps = connection.prepareStatement(MEMBER_ROLES_SQL)) {
+                ps.setLong(1, userId);
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) ids.add(rs.getLong(1));
+                }
+            }
+            return ids;
+        });
+    }
+
+    /**
+     * Aplica +1 a los roles añadidos y -1 a los quitados. Los roles se actualizan en orden de id
+     * para que dos transacciones concurrentes no se bloqueen mutuamente.
+     */
+    public void apply(Session session, Collection<Long> before, Collection<Long> after) {
+        SortedMap<Long, Integer> deltas = new TreeMap<>();
+        before.forEach(id -> deltas.merge(id, -1, Integer::sum));
+        after.forEach(id -> deltas.merge(id, 1, Integer::sum));
+        deltas.values().removeIf(d -> d == 0);
+        if (deltas.isEmpty()) return;
+
+        session.doWork(connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(UPSERT_SQL)) {
+                for (Map.Entry<Long, Integer> delta : deltas.entrySet()) {
+                    ps.setLong(1, delta.getKey());
+                    ps.setInt(2, delta.getValue());
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+            }
+        });
+    }
+
+    /**
+     * Recalcula cada contador desde {@code user_roles} por si algo escribió la tabla sin pasar por
+     * Hibernate. Cada rol va en su propia transacción: primero se bloquea el contador, así las
+     * transacciones que ya aplicaron su delta han terminado y su fila entra en el COUNT (la lectura
+     * consistente empieza después del bloqueo); las que aún no lo aplicaron esperan y suman sobre
+     * el valor corregido.
+     */
+    @Scheduled(cron = "${role-member-counts.reconcile-cron:0 15 3 * * *}")
+    public void reconcile() {
+        int corrected = 0;
+        for (Long roleId : roleMemberCountRepository.findAllRoleIds()) {
+            Boolean changed = tx.execute(status -> {
+                roleMemberCountRepository.insertIfAbsent(roleId);
+                long stored = roleMemberCountRepository.lockCount(roleId);
+                long actual = roleMemberCountRepository.countMembers(roleId);
+                if (stored == actual) return false;
+                roleMemberCountRepository.setCount(roleId, actual);
+                log.warn("Role {} member count corrected from {} to {}", roleId, stored, actual);
+                return true;
+            });
+            if (Boolean.TRUE.equals(changed)) corrected++;
+        }
+        log.info("Reconciled role member counts ({} corrected)", corrected);
+    }
+}
@@ -0,0 +1,163 @@
+package io.github.haroldbaes17.minecraftfacts.service;
+
+import io.github.haroldbaes17.minecraftfacts.config.RoleUsersProperties;
+import io.github.haroldbaes17.minecraftfacts.dto.RoleDTO.MultiRoleUsersResponse;
+import io.github.haroldbaes17.minecraftfacts.dto.RoleDTO.RoleUserCount;
+import io.github.haroldbaes17.minecraftfacts.dto.MultiGetResponse;
+import io.github.haroldbaes17.minecraftfacts.dto.PageResponse;
+import io.github.haroldbaes17.minecraftfacts.dto.RoleDTO.RoleResponse;
+import io.github.haroldbaes17.minecraftfacts.dto.UserSummaryDTO;
+import io.github.haroldbaes17.minecraftfacts.exception.ResourceNotFoundException;
+import io.github.haroldbaes17.minecraftfacts.model.User;
+import io.github.haroldbaes17.minecraftfacts.repository.UserRepository;
+import jakarta.validation.ConstraintViolationException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.Collectors;
+
+/**
+ * Usuarios de varios roles a la vez, con el número de miembros de cada rol.
+ * <p>
+ * Los roles se buscan por id como en {@code /roles/findById} y el multi-get: los que están en la
+ * papelera también se aceptan.
+ * <p>
+ * Los conteos salen de {@code role_member_counts} en una sola lectura por clave primaria. Con pocos roles la página se lee con un solo
+ * {@code IN}; con muchos, cada rol se consulta por separado en hilos virtuales (limitados por un
+ * bulkhead compartido, ver {@code AsyncConfig}) y los resultados se mezclan ordenados por username y
+ * sin duplicados.
+ */
+@Service
+@RequiredArgsConstructor
+public class RoleMembershipService {
+
+    private static final Sort BY_USERNAME = Sort.by("usernameNormalized").ascending();
+
+    private final MultiGetService multiGetService;
+    private final UserRepository userRepository;
+    private final RoleMemberCountService roleMemberCountService;
+    private final RoleUsersProperties properties;
+    private final Semaphore roleUsersBulkhead;
+
+    public MultiRoleUsersResponse listUsersByRoles(Collection<Long> roleIds, int page, int size) {
+        List<Long> ids = roleIds == null ? List.of() : roleIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (ids.isEmpty()) throw new ConstraintViolationException("roleIds is required", Set.of());
+        if (ids.size() > properties.maxRoles())
+            throw new ConstraintViolationException("Too many roles (max " + properties.maxRoles() + ")", Set.of());
+        if (page < 0 || size < 1) throw new ConstraintViolationException("Invalid page or size", Set.of());
+        // En long: (page + 1) * size no desborda con ningún par de int
+        if ((page + 1L) * size > properties.maxWindow())
+            throw new ConstraintViolationException("Page too deep (max " + properties.maxWindow() + " users)", Set.of());
+        int window = (page + 1) * size;
+
+        // multiLoad: caché L2 primero y sin el filtro activeOnly, igual que GET /roles?ids=...
+        Map<Long, RoleResponse> roles = multiGetService.roles(ids).items().stream()
+                .filter(MultiGetResponse.Item::found)
+                .collect(Collectors.toMap(MultiGetResponse.Item::id, MultiGetResponse.Item::value));
+        List<Long> missing = ids.stream().filter(id -> !roles.containsKey(id)).toList();
+        if (!missing.isEmpty()) throw new ResourceNotFoundException("Role not found: " + missing);
+
+        Map<Long, Long> counts = roleMemberCountService.counts(ids);
+        List<RoleUserCount> roleCounts = ids.stream()
+                .map(id -> new RoleUserCount(id, roles.get(id).name(), counts.getOrDefault(id, 0L)))
+                .toList();
+
+        // Roles sin miembros no aportan nada a la página
+        List<Long> populated = ids.stream().filter(id -> counts.getOrDefault(id, 0L) > 0).toList();
+        if (populated.isEmpty()) {
+            return new MultiRoleUsersResponse(roleCounts, new PageResponse<>(List.of(), page, size, false, null, null));
+        }
+
+        if (populated.size() < properties.fanOutThreshold()) {
+            Slice<User> slice = userRepository.findDistinctByRoles_IdIn(populated, PageRequest.of(page, size, BY_USERNAME));
+            return new MultiRoleUsersResponse(roleCounts, PageResponse.of(slice.map(UserSummaryDTO::fromEntity)));
+        }
+
+        // Los primeros (page + 1) * size + 1 usuarios distintos están entre los primeros de cada rol
+        List<List<User>> perRole = fetchConcurrently(populated, window + 1);
+        List<User> merged = merge(perRole, window + 1);
+
+        List<UserSummaryDTO> content = merged.stream()
+                .skip((long) page * size)
+                .limit(size)
+                .map(UserSummaryDTO::fromEntity)
+                .toList();
+        return new MultiRoleUsersResponse(roleCounts,
+                new PageResponse<>(content, page, size, merged.size() > window, null, null));
+    }
+
+    /* ========= Helpers ========= */
+    private List<List<User>> fetchConcurrently(List<Long> roleIds, int limit) {
+        List<Future<List<User>>> futures = new ArrayList<>(roleIds.size());
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (Long roleId : roleIds) {
+                futures.add(executor.submit(() -> {
+                    roleUsersBulkhead.acquire();
+                    try {
+                        return userRepository.findByRoles_IdOrderByUsernameNormalizedAsc(roleId, Limit.of(limit));
+                    } finally {
+                        roleUsersBulkhead.release();
+                    }
+                }));
+            }
+
+            List<List<User>> results = new ArrayList<>(futures.size());
+            for (Future<List<User>> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading role members", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    // K-way merge por username; un usuario con varios roles aparece una vez
+    static List<User> merge(List<List<User>> lists, int limit) {
+        PriorityQueue<Cursor> heap = new PriorityQueue<>(Comparator.comparing((Cursor c) -> c.current().getUsernameNormalized())
+                .thenComparing(c -> c.current().getId()));
+        for (List<User> list : lists) {
+            if (!list.isEmpty()) heap.add(new Cursor(list));
+        }
+
+        List<User> merged = new ArrayList<>(limit);
+        Set<Long> seen = new HashSet<>();
+        while (!heap.isEmpty() && merged.size() < limit) {
+            Cursor cursor = heap.poll();
+            User user = cursor.current();
+            if (seen.add(user.getId())) merged.add(user);
+            if (cursor.advance()) heap.add(cursor);
+        }
+        return merged;
+    }
+
+    private static final class Cursor {
+        private final List<User> users;
+        private int index;
+
+        Cursor(List<User> users) {
+            this.users = users;
+        }
+
+        User current() {
+            return users.get(index);
+        }
+
+        boolean advance() {
+            return ++index < users.size();
+        }
+    }
+}
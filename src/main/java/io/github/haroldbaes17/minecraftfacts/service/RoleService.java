@@ -13,7 +13,7 @@ import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
 import jakarta.validation.ConstraintViolationException;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
@@ -24,14 +24,25 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class RoleService {
 
+    private static final String ROLE_PREFIX = "ROLE_";
+
     private final RoleRepository roleRepository;
     private final UserRepository userRepository;
+    private final SoftDeleteFilter softDeleteFilter;
+    private final RoleMemberCountService roleMemberCountService;
 
     /* ========= Lectura / búsqueda ========= */
     public List<RoleResponse> findAll() {
-        return roleRepository.findAll()
-                .stream()
-                .map(RoleResponse::from)
+        return findAll(false);
+    }
+
+    public List<RoleResponse> findAll(boolean withUserCount) {
+        List<Role> roles = roleRepository.findAll();
+        if (!withUserCount) return roles.stream().map(RoleResponse::from).toList();
+
+        Map<Long, Long> counts = roleMemberCountService.counts(roles.stream().map(Role::getId).toList());
+        return roles.stream()
+                .map(r -> RoleResponse.from(r, counts.getOrDefault(r.getId(), 0L)))
                 .toList();
     }
 
@@ -40,15 +51,50 @@ public class RoleService {
                 .orElseThrow(() -> new ResourceNotFoundException("Role not found"));
     }
 
+    public RoleResponse findResponseById(Long id, boolean withUserCount) {
+        Role role = findById(id);
+        return withUserCount ? RoleResponse.from(role, roleMemberCountService.count(id)) : RoleResponse.from(role);
+    }
+
     public RoleResponse findByName(String name) {
         Role role = roleRepository.findByName(name)
                 .orElseThrow(() -> new EntityNotFoundException("Role not found"));
         return RoleResponse.from(role);
     }
 
-    public Page<Role> search(String q, Pageable pageable) {
-        if (q == null || q.isBlank()) return roleRepository.findAll(pageable);
-        return roleRepository.findByNameContainingIgnoreCaseOrDescriptionContainingIgnoreCase(q, q, pageable);
+    public PageResponse<RoleResponse> search(String q, Pageable pageable) {
+        return search(q, false, false, pageable);
+    }
+
+    // prefix = true: solo por inicio del nombre, resuelto con el índice de name
+    public PageResponse<RoleResponse> search(String q, boolean prefix, boolean withTotal, Pageable pageable) {
+        PageResponse<Role> page;
+        if (q == null || q.isBlank()) {
+            page = PageResponse.of(roleRepository.findAllBy(pageable), withTotal ? roleRepository::count : null);
+        } else if (prefix) {
+            String namePrefix = namePrefix(q);
+            page = PageResponse.of(roleRepository.findByNameStartingWith(namePrefix, pageable),
+                    withTotal ? () -> roleRepository.countByNameStartingWith(namePrefix) : null);
+        } else {
+            page = PageResponse.of(roleRepository.findByNameContainingIgnoreCaseOrDescriptionContainingIgnoreCase(q, q, pageable),
+                    withTotal ? () -> roleRepository.countByNameContainingIgnoreCaseOrDescriptionContainingIgnoreCase(q, q) : null);
+        }
+        return page.map(RoleResponse::from);
+    }
+
+    public List<RoleResponse> autocomplete(String q, int limit) {
+        if (q == null || q.isBlank()) return List.of();
+        return roleRepository.findByNameStartingWithOrderByNameAsc(namePrefix(q), Limit.of(Math.min(Math.max(limit, 1), 20)))
+                .stream()
+                .map(RoleResponse::from)
+                .toList();
+    }
+
+    // "adm" -> "ROLE_ADM"; "RO" se deja tal cual porque es el inicio de "ROLE_"
+    private static String namePrefix(String q) {
+        String upper = q.trim().toUpperCase(Locale.ROOT);
+        if (upper.startsWith(ROLE_PREFIX) || ROLE_PREFIX.startsWith(upper)) return upper;
+        return ROLE_PREFIX + upper;
     }
 
     public Long count() {
@@ -59,11 +105,12 @@ public class RoleService {
         return roleRepository.existsByName(name);
     }
 
-    public Page<UserSummaryDTO> listUsersByRole(Long roleId, Pageable pageable) {
+    public PageResponse<UserSummaryDTO> listUsersByRole(Long roleId, boolean withTotal, Pageable pageable) {
         Role role = roleRepository.findById(roleId)
                 .orElseThrow(() -> new ResourceNotFoundException("Role not found"));
 
-        return userRepository.findDistinctByRoles_Id(role.getId(), pageable)
+        return PageResponse.of(userRepository.findDistinctByRoles_Id(role.getId(), pageable),
+                        withTotal ? () -> roleMemberCountService.count(role.getId()) : null)
                 .map(UserSummaryDTO::fromEntity);
     }
 
@@ -74,7 +121,9 @@ public class RoleService {
 
         if (!normalized.matches("^ROLE_[A-Z_]+$")) throw new ConstraintViolationException("Invalid role name", Set.of());
 
-        if (roleRepository.existsByName(req.name())) throw new DuplicateResourceException("Role already exists");
+        // El nombre es único también frente a roles en la papelera
+        if (softDeleteFilter.withDeleted(() -> roleRepository.existsByName(req.name())))
+            throw new DuplicateResourceException("Role already exists");
 
         Role toSave = Role.builder()
                 .name(normalized)
@@ -110,7 +159,7 @@ public class RoleService {
             return RoleResponse.from(role);
         }
 
-        if (roleRepository.existsByName(normalized)) {
+        if (softDeleteFilter.withDeleted(() -> roleRepository.existsByName(normalized))) {
             throw new DuplicateResourceException("Role already exists");
         }
 
@@ -137,7 +186,7 @@ public class RoleService {
     public String delete(long id) {
         Role role = findById(id);
 
-        boolean hasUsers = userRepository.existsByRoles_Id(role.getId());
+        boolean hasUsers = !roleMemberCountService.lockRoleIdsInUse(List.of(role.getId())).isEmpty();
         if (hasUsers) {
             throw new RoleInUseException("Role in use. You cannot delete it.");
         }
@@ -148,13 +197,6 @@ public class RoleService {
         return "Role has been deleted";
     }
 
-    public List<RoleResponse> listTrash() {
-        return roleRepository.findAllByDeleted(true)
-                .stream()
-                .map(RoleResponse::from)
-                .toList();
-    }
-
     public RoleResponse restore(long id) {
         Role role = findById(id);
 
@@ -179,7 +221,8 @@ public class RoleService {
         }
 
         Map<Long, Role> rolesById = new HashMap<>();
-        roleRepository.findAllById(uniqueIds).forEach(r -> rolesById.put(r.getId(), r));
+        softDeleteFilter.withDeleted(() -> InClauseChunks.list(uniqueIds, roleRepository::findAllById))
+                .forEach(r -> rolesById.put(r.getId(), r));
 
         List<BulkDeleteSkipped> skipped = new ArrayList<>();
 
@@ -202,7 +245,7 @@ public class RoleService {
                 .filter(r -> !r.isDeleted())
                 .toList();
 
-        Set<Long> inUseIds = userRepository.findRoleIdsInUse(
+        Set<Long> inUseIds = roleMemberCountService.lockRoleIdsInUse(
                 activeRoles.stream().map(Role::getId).toList()
         );
         inUseIds.forEach(id -> {
@@ -246,7 +289,8 @@ public class RoleService {
         }
 
         Map<Long, Role> rolesById = new HashMap<>();
-        roleRepository.findAllById(uniqueIds).forEach(r -> rolesById.put(r.getId(), r));
+        softDeleteFilter.withDeleted(() -> InClauseChunks.list(uniqueIds, roleRepository::findAllById))
+                .forEach(r -> rolesById.put(r.getId(), r));
 
         List<BulkRestoreSkipped> skipped = new ArrayList<>();
 
@@ -0,0 +1,33 @@
+package io.github.haroldbaes17.minecraftfacts.service;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * Acceso al filtro {@code activeOnly} (ver {@code model/package-info.java}).
+ * Debe usarse dentro de una transacción para que afecte a la sesión del llamador.
+ */
+@Component
+@RequiredArgsConstructor
+public class SoftDeleteFilter {
+
+    public static final String NAME = "activeOnly";
+
+    private final EntityManager entityManager;
+
+    // Ejecuta la acción viendo también las filas borradas lógicamente
+    public <T> T withDeleted(Supplier<T> action) {
+        Session session = entityManager.unwrap(Session.class);
+        boolean enabled = session.getEnabledFilter(NAME) != null;
+        if (enabled) session.disableFilter(NAME);
+        try {
+            return action.get();
+        } finally {
+            if (enabled) session.enableFilter(NAME);
+        }
+    }
+}
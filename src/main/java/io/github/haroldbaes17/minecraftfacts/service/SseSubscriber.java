@@ -0,0 +1,115 @@
+package io.github.haroldbaes17.minecraftfacts.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.Executor;
+
+/**
+ * Cliente SSE con cola propia. Quien difunde solo encola; los envíos los hace una tarea del
+ * executor mientras haya pendientes, así un cliente lento no frena a los demás. Si su cola supera
+ * {@code maxQueued} (más los eventos de reanudación) se le desconecta y reanudará con
+ * {@code Last-Event-ID}.
+ * <p>
+ * Se registra antes de leer los eventos de reanudación: lo que llega en vivo mientras tanto se
+ * retiene y se envía después de la reanudación, sin repetir ids.
+ * <p>
+ * Los eventos se encolan ya construidos ({@link #frame}): un {@link SseEventBuilder} no se puede
+ * enviar dos veces, y así un mismo evento se serializa una sola vez para todos los clientes.
+ */
+final class SseSubscriber {
+
+    private final SseEmitter emitter;
+    private final Executor executor;
+    // maxQueued más los eventos de reanudación, que se encolan de golpe
+    private int capacity;
+
+    private final Deque<Set<DataWithMediaType>> queue = new ArrayDeque<>();
+    // Eventos en vivo recibidos durante la reanudación; null cuando ya terminó
+    private List<Pending> heldDuringCatchUp = new ArrayList<>();
+    private boolean draining;
+    private boolean closed;
+
+    SseSubscriber(SseEmitter emitter, Executor executor, int maxQueued) {
+        this.emitter = emitter;
+        this.executor = executor;
+        this.capacity = maxQueued;
+    }
+
+    static Set<DataWithMediaType> frame(SseEventBuilder event) {
+        return Collections.unmodifiableSet(event.build());
+    }
+
+    /**
+     * Encola los eventos de reanudación y después los retenidos que no estaban entre ellos.
+     *
+     * @param replay pares id -> evento, en orden
+     */
+    synchronized boolean catchUp(SequencedMap<Long, Set<DataWithMediaType>> replay) {
+        List<Pending> held = heldDuringCatchUp;
+        heldDuringCatchUp = null;
+        capacity += replay.size();
+        for (Set<DataWithMediaType> event : replay.values()) {
+            if (!enqueue(event)) return false;
+        }
+        for (Pending p : held) {
+            if (!replay.containsKey(p.id()) && !enqueue(p.event())) return false;
+        }
+        return true;
+    }
+
+    // false = el cliente se desconectó o se quedó atrás y debe quitarse de la lista
+    synchronized boolean offer(long id, Set<DataWithMediaType> event) {
+        if (closed) return false;
+        if (heldDuringCatchUp != null) {
+            heldDuringCatchUp.add(new Pending(id, event));
+            return true;
+        }
+        return enqueue(event);
+    }
+
+    private boolean enqueue(Set<DataWithMediaType> event) {
+        if (closed) return false;
+        if (queue.size() >= capacity) {
+            closed = true;
+            queue.clear();
+            emitter.complete();
+            return false;
+        }
+        queue.add(event);
+        if (!draining) {
+            draining = true;
+            executor.execute(this::drain);
+        }
+        return true;
+    }
+
+    private void drain() {
+        while (true) {
+            Set<DataWithMediaType> next;
+            synchronized (this) {
+                next = closed ? null : queue.poll();
+                if (next == null) {
+                    draining = false;
+                    return;
+                }
+            }
+            try {
+                emitter.send(next);
+            } catch (IOException | IllegalStateException e) {
+                synchronized (this) {
+                    closed = true;
+                    queue.clear();
+                    draining = false;
+                }
+                emitter.completeWithError(e);
+                return;
+            }
+        }
+    }
+
+    private record Pending(long id, Set<DataWithMediaType> event) {}
+}
@@ -0,0 +1,235 @@
+package io.github.haroldbaes17.minecraftfacts.service;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.github.haroldbaes17.minecraftfacts.config.WarmUpProperties;
+import io.github.haroldbaes17.minecraftfacts.dto.RoleDTO.RoleResponse;
+import io.github.haroldbaes17.minecraftfacts.model.Fact;
+import io.github.haroldbaes17.minecraftfacts.repository.FactRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.metamodel.EntityType;
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Calentamiento al arrancar: llena el pool, compila las consultas de cada entidad y repite las
+ * lecturas más frecuentes antes de aceptar tráfico.
+ * <p>
+ * Corre dentro de {@link ApplicationReadyEvent}, que Spring Boot resuelve antes de publicar
+ * {@code ACCEPTING_TRAFFIC}; además el indicador {@code caches} sigue en OUT_OF_SERVICE hasta que
+ * termina. Un fallo o el límite de tiempo solo se registran: la instancia pasa a ready igualmente.
+ */
+@Service
+public class StartupWarmUpService {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupWarmUpService.class);
+
+    private static final int SAMPLE_SIZE = 50;
+
+    private final WarmUpProperties properties;
+    private final DataSource dataSource;
+    private final EntityManager entityManager;
+    private final TransactionTemplate readOnlyTx;
+    private final RoleService roleService;
+    private final MultiGetService multiGetService;
+    private final FactRepository factRepository;
+    private final MeterRegistry meterRegistry;
+
+    private volatile boolean done = false;
+    private volatile Map<String, Long> stageMillis = Map.of();
+
+    public StartupWarmUpService(WarmUpProperties properties, DataSource dataSource, EntityManager entityManager,
+                                PlatformTransactionManager transactionManager, RoleService roleService,
+                                MultiGetService multiGetService, FactRepository factRepository,
+                                MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.dataSource = dataSource;
+        this.entityManager = entityManager;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.roleService = roleService;
+        this.multiGetService = multiGetService;
+        this.factRepository = factRepository;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public boolean isDone() {
+        return done;
+    }
+
+    // Duración de cada etapa en ms, en orden de ejecución
+    public Map<String, Long> stageMillis() {
+        return stageMillis;
+    }
+
+    // Antes que los demás listeners de arranque: la carga de cachés ya encuentra el pool lleno
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void warmUp() {
+        if (!properties.enabled()) {
+            done = true;
+            return;
+        }
+
+        Map<String, Long> timings = new LinkedHashMap<>();
+        long start = System.nanoTime();
+        try {
+            int connections = stage(timings, "pool", this::fillPool);
+            stage(timings, "statements", this::prepareEntityQueries);
+            stage(timings, "queries", () -> replayQueries(Math.max(1, Math.min(properties.concurrency(), connections))));
+        } catch (RuntimeException e) {
+            log.warn("Warm-up failed; continuing without it", e);
+        } finally {
+            timings.put("total", Duration.ofNanos(System.nanoTime() - start).toMillis());
+            stageMillis = Collections.unmodifiableMap(timings);
+            done = true;
+            log.info("Warm-up finished: {}", timings);
+        }
+    }
+
+    /* ========= Etapas ========= */
+    // Pide las conexiones a la vez para que Hikari las cree ahora y no en la primera ráfaga
+    private int fillPool() {
+        HikariDataSource hikari;
+        try {
+            if (!dataSource.isWrapperFor(HikariDataSource.class)) return properties.concurrency();
+            hikari = dataSource.unwrap(HikariDataSource.class);
+        } catch (SQLException e) {
+            return properties.concurrency();
+        }
+
+        int target = properties.poolTarget() > 0 ? properties.poolTarget() : hikari.getMaximumPoolSize();
+        target = Math.max(1, Math.min(target, hikari.getMaximumPoolSize()));
+
+        List<Connection> borrowed = new ArrayList<>(target);
+        try {
+            for (int i = 0; i < target; i++) {
+                borrowed.add(dataSource.getConnection());
+            }
+        } catch (SQLException e) {
+            log.warn("Warm-up opened {} of {} connections", borrowed.size(), target, e);
+        } finally {
+            for (Connection connection : borrowed) {
+                try {
+                    connection.close();
+                } catch (SQLException ignored) {
+                    // Hikari descarta la conexión rota
+                }
+            }
+        }
+        return Math.max(1, borrowed.size());
+    }
+
+    // Una consulta vacía por entidad: compila el HQL y genera el SQL (caché de planes de Hibernate).
+    // No prepara las sentencias reales; eso lo hace replayQueries
+    private int prepareEntityQueries() {
+        Set<EntityType<?>> entities = entityManager.getMetamodel().getEntities();
+        readOnlyTx.executeWithoutResult(status -> {
+            for (EntityType<?> entity : entities) {
+                entityManager.createQuery("select e from " + entity.getName() + " e where 1 = 0")
+                        .getResultList();
+            }
+        });
+        return entities.size();
+    }
+
+    private int replayQueries(int concurrency) {
+        Map<String, Runnable> queries = new LinkedHashMap<>();
+        queries.put("roles.findAll", () -> roleService.findAll(false));
+        queries.put("roles.findAllWithUserCount", () -> roleService.findAll(true));
+        queries.put("roles.search", () -> roleService.search(null, false, false, PageRequest.of(0, 20)));
+        queries.put("roles.searchPrefix", () -> roleService.search("a", true, true, PageRequest.of(0, 20)));
+        queries.put("roles.autocomplete", () -> roleService.autocomplete("a", 10));
+        queries.put("roles.byIds", () -> {
+            List<Long> ids = roleService.findAll(false).stream().map(RoleResponse::id).limit(SAMPLE_SIZE).toList();
+            if (!ids.isEmpty()) multiGetService.roles(ids);
+        });
+        // Carga los datos en la caché de segundo nivel; FactResponse no lee las categorías, así que se
+        // inicializan aparte para que también entren en la región "categories"
+        queries.put("facts.byIds", () -> {
+            List<Long> ids = factRepository.findAll(PageRequest.of(0, SAMPLE_SIZE)).map(Fact::getId).getContent();
+            if (ids.isEmpty()) return;
+            multiGetService.facts(ids);
+            readOnlyTx.executeWithoutResult(status -> entityManager.unwrap(Session.class)
+                    .byMultipleIds(Fact.class)
+                    .multiLoad(ids)
+                    .forEach(fact -> {
+                        if (fact != null) Hibernate.initialize(fact.getCategories());
+                    }));
+        });
+
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int i = 0; i < Math.max(1, properties.iterations()); i++) {
+            queries.forEach((name, query) -> tasks.add(() -> {
+                Timer.Sample sample = Timer.start(meterRegistry);
+                try {
+                    query.run();
+                } finally {
+                    sample.stop(meterRegistry.timer("app.warmup.query", "query", name));
+                }
+                return null;
+            }));
+        }
+
+        Semaphore permits = new Semaphore(concurrency);
+        AtomicInteger failed = new AtomicInteger();
+        List<Callable<Void>> bounded = tasks.stream().<Callable<Void>>map(task -> () -> {
+            permits.acquire();
+            try {
+                return task.call();
+            } catch (RuntimeException e) {
+                failed.incrementAndGet();
+                log.debug("Warm-up query failed", e);
+                return null;
+            } finally {
+                permits.release();
+            }
+        }).toList();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Void>> futures = executor.invokeAll(bounded, properties.maxTime().toMillis(), TimeUnit.MILLISECONDS);
+            long cancelled = futures.stream().filter(Future::isCancelled).count();
+            if (cancelled > 0) log.warn("Warm-up hit max-time; {} of {} queries cancelled", cancelled, futures.size());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (failed.get() > 0) log.warn("{} warm-up queries failed", failed.get());
+        return tasks.size();
+    }
+
+    /* ========= Helpers ========= */
+    private int stage(Map<String, Long> timings, String name, Callable<Integer> action) {
+        long start = System.nanoTime();
+        try {
+            int result = action.call();
+            log.debug("Warm-up stage {} done ({})", name, result);
+            return result;
+        } catch (Exception e) {
+            if (e instanceof RuntimeException re) throw re;
+            throw new IllegalStateException(e);
+        } finally {
+            long nanos = System.nanoTime() - start;
+            timings.put(name, Duration.ofNanos(nanos).toMillis());
+            meterRegistry.timer("app.warmup.stage", "stage", name).record(nanos, TimeUnit.NANOSECONDS);
+        }
+    }
+}
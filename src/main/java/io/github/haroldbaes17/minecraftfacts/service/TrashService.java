@@ -0,0 +1,148 @@
+package io.github.haroldbaes17.minecraftfacts.service;
+
+import io.github.haroldbaes17.minecraftfacts.config.TrashProperties;
+import io.github.haroldbaes17.minecraftfacts.dto.PageResponse;
+import io.github.haroldbaes17.minecraftfacts.dto.TrashItem;
+import io.github.haroldbaes17.minecraftfacts.model.Fact;
+import io.github.haroldbaes17.minecraftfacts.model.Role;
+import io.github.haroldbaes17.minecraftfacts.repository.FactRepository;
+import io.github.haroldbaes17.minecraftfacts.repository.RoleRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.transaction.Transactional;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Papelera de roles y datos curiosos: listado paginado y purga por retención.
+ * <p>
+ * La purga borra con SQL nativo en lotes pequeños, cada uno en su transacción, y escribe un evento
+ * {@code DELETED} en el outbox por fila (el borrado nativo no pasa por los listeners de Hibernate).
+ * Cada lote bloquea sus filas antes de borrarlas, así los eventos corresponden a filas realmente
+ * borradas; además solo purga una instancia a la vez ({@link NamedLock}).
+ */
+@Service
+public class TrashService {
+
+    private static final Logger log = LoggerFactory.getLogger(TrashService.class);
+    private static final String PURGE_LOCK = "minecraft-facts.trash-purge";
+
+    private final RoleRepository roleRepository;
+    private final FactRepository factRepository;
+    private final SoftDeleteFilter softDeleteFilter;
+    private final OutboxService outboxService;
+    private final EntityManager entityManager;
+    private final EntityManagerFactory entityManagerFactory;
+    private final TrashProperties properties;
+    private final NamedLock namedLock;
+    private final TransactionTemplate tx;
+
+    public TrashService(RoleRepository roleRepository, FactRepository factRepository,
+                        SoftDeleteFilter softDeleteFilter, OutboxService outboxService,
+                        EntityManager entityManager, EntityManagerFactory entityManagerFactory,
+                        TrashProperties properties, NamedLock namedLock,
+                        PlatformTransactionManager transactionManager) {
+        this.roleRepository = roleRepository;
+        this.factRepository = factRepository;
+        this.softDeleteFilter = softDeleteFilter;
+        this.outboxService = outboxService;
+        this.entityManager = entityManager;
+        this.entityManagerFactory = entityManagerFactory;
+        this.properties = properties;
+        this.namedLock = namedLock;
+        this.tx = new TransactionTemplate(transactionManager);
+    }
+
+    /* ========= Listado ========= */
+    @Transactional
+    public PageResponse<TrashItem> listRoles(boolean withTotal, Pageable pageable) {
+        return softDeleteFilter.withDeleted(() -> PageResponse.of(roleRepository.findByDeletedTrue(pageable),
+                        withTotal ? roleRepository::countByDeletedTrue : null))
+                .map(r -> TrashItem.from(r, properties.retention()));
+    }
+
+    @Transactional
+    public PageResponse<TrashItem> listFacts(boolean withTotal, Pageable pageable) {
+        return softDeleteFilter.withDeleted(() -> PageResponse.of(factRepository.findByDeletedTrue(pageable),
+                        withTotal ? factRepository::countByDeletedTrue : null))
+                .map(f -> TrashItem.from(f, properties.retention()));
+    }
+
+    /* ========= Purga ========= */
+    @Scheduled(cron = "${trash.purge-cron:0 0 3 * * *}")
+    public void purgeExpired() {
+        if (!namedLock.runExclusively(PURGE_LOCK, this::purgeAll)) {
+            log.debug("Trash purge skipped: another instance is running it");
+        }
+    }
+
+    private void purgeAll() {
+        Instant cutoff = Instant.now().minus(properties.retention());
+        Instant deadline = Instant.now().plus(properties.maxRunTime());
+
+        int facts = purge("FACT", Fact.class, cutoff, deadline, factRepository::findPurgeableIds, ids -> {
+            factRepository.purgeCategoryLinks(ids);
+            return factRepository.purgeByIds(ids);
+        });
+        int roles = purge("ROLE", Role.class, cutoff, deadline, roleRepository::findPurgeableIds,
+                roleRepository::purgeByIds);
+
+        if (facts > 0 || roles > 0) log.info("Trash purge removed {} facts and {} roles", facts, roles);
+    }
+
+    private int purge(String aggregateType, Class<?> entityType, Instant cutoff, Instant deadline,
+                      BiFunction<Instant, Integer, List<Long>> findBatch,
+                      Function<List<Long>, Integer> delete) {
+        int total = 0;
+        while (Instant.now().isBefore(deadline)) {
+            Integer removed = tx.execute(status -> {
+                // Filas bloqueadas hasta el commit: el borrado afecta justo a estas
+                List<Long> ids = findBatch.apply(cutoff, properties.batchSize());
+                if (ids.isEmpty()) return 0;
+
+                int count = delete.apply(ids);
+                if (count != ids.size()) {
+                    // No debería pasar con las filas bloqueadas; sin saber cuáles faltan no se emiten eventos
+                    status.setRollbackOnly();
+                    log.warn("Trash purge of {} {} rows deleted {}; batch rolled back", ids.size(), aggregateType, count);
+                    return 0;
+                }
+                Session session = entityManager.unwrap(Session.class);
+                ids.forEach(id -> outboxService.append(session, aggregateType, id, "DELETED", Map.of("id", id)));
+                return count;
+            });
+            if (removed == null || removed == 0) break;
+            total += removed;
+
+            // Las filas ya no existen: fuera de la caché L2 y de las consultas cacheadas
+            entityManagerFactory.getCache().evict(entityType);
+            entityManagerFactory.unwrap(SessionFactory.class).getCache().evictQueryRegions();
+
+            if (!pause()) break;
+        }
+        return total;
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(properties.batchPause().toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package io.github.haroldbaes17.minecraftfacts.service;
+
+import io.github.haroldbaes17.minecraftfacts.config.UserAvailabilityProperties;
+import io.github.haroldbaes17.minecraftfacts.dto.ChangeEvent;
+import io.github.haroldbaes17.minecraftfacts.dto.UserAvailabilityResponse;
+import io.github.haroldbaes17.minecraftfacts.model.User;
+import io.github.haroldbaes17.minecraftfacts.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.stream.Stream;
+
+/**
+ * Disponibilidad de username / email para el formulario de registro.
+ * <p>
+ * Un filtro de Bloom con todos los valores ocupados responde "disponible" sin ir a la BD en la
+ * mayoría de los casos; solo cuando el filtro dice "quizá ocupado" se confirma con un
+ * {@code exists}. Se construye al arrancar leyendo {@code users} en streaming y se mantiene con
+ * las altas y cambios de usuarios: los locales tras el commit y los de otras instancias vía outbox.
+ * Un valor que se pierda por el camino (p. ej. un evento que el relay da por perdido) solo dura
+ * hasta la siguiente reconstrucción, y el índice único de {@code users} sigue rechazando el alta.
+ */
+@Service
+public class UserAvailabilityService {
+
+    private static final Logger log = LoggerFactory.getLogger(UserAvailabilityService.class);
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate readOnlyTx;
+    private final double falsePositiveRate;
+
+    private volatile Filters filters;
+    // Filtro en construcción: también recibe las altas que llegan mientras se lee la tabla
+    private volatile Filters building;
+
+    public UserAvailabilityService(UserRepository userRepository, PlatformTransactionManager transactionManager,
+                                   UserAvailabilityProperties properties) {
+        this.userRepository = userRepository;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.falsePositiveRate = properties.falsePositiveRate();
+    }
+
+    /* ========= Consulta ========= */
+    public UserAvailabilityResponse check(String username, String email) {
+        Boolean usernameAvailable = username == null ? null : isUsernameAvailable(username);
+        Boolean emailAvailable = email == null ? null : isEmailAvailable(email);
+        return new UserAvailabilityResponse(usernameAvailable, emailAvailable);
+    }
+
+    public boolean isUsernameAvailable(String username) {
+        String normalized = User.normalize(username);
+        Filters f = filters;
+        if (f != null && !f.usernames.mightContain(normalized)) return true;
+        return !userRepository.existsByUsernameNormalized(normalized);
+    }
+
+    public boolean isEmailAvailable(String email) {
+        String normalized = User.normalize(email);
+        Filters f = filters;
+        if (f != null && !f.emails.mightContain(normalized)) return true;
+        return !userRepository.existsByEmailNormalized(normalized);
+    }
+
+    public boolean isReady() {
+        return filters != null;
+    }
+
+    /* ========= Mantenimiento ========= */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${user-availability.rebuild-cron:0 0 4 * * *}")
+    public void rebuild() {
+        // Margen para las altas hasta la próxima reconstrucción
+        long expected = Math.max(100_000, userRepository.count() * 2);
+        Filters fresh = new Filters(new BloomFilter(expected, falsePositiveRate),
+                new BloomFilter(expected, falsePositiveRate));
+        // Se publica antes de abrir la lectura: lo que se confirme después de este punto lo verá
+        // la lectura o lo recibirá fresh vía remember()
+        building = fresh;
+
+        long loaded = readOnlyTx.execute(status -> {
+            long count = 0;
+            try (Stream<Object[]> rows = userRepository.streamNormalizedIdentities()) {
+                for (Object[] row : (Iterable<Object[]>) rows::iterator) {
+                    fresh.usernames.put((String) row[0]);
+                    fresh.emails.put((String) row[1]);
+                    count++;
+                }
+            }
+            return count;
+        });
+
+        filters = fresh;
+        building = null;
+        log.info("User availability filter built with {} users", loaded);
+    }
+
+    // Llamar tras el commit: antes, una reconstrucción que empiece entre remember y el commit
+    // no vería la fila ni recibiría el valor
+    public void remember(String usernameNormalized, String emailNormalized) {
+        put(filters, usernameNormalized, emailNormalized);
+        put(building, usernameNormalized, emailNormalized);
+    }
+
+    private static void put(Filters f, String usernameNormalized, String emailNormalized) {
+        if (f == null) return;
+        if (usernameNormalized != null) f.usernames.put(usernameNormalized);
+        if (emailNormalized != null) f.emails.put(emailNormalized);
+    }
+
+    // Altas y cambios hechos en otras instancias
+    @EventListener
+    public void onChange(ChangeEvent event) {
+        if (!"USER".equals(event.aggregateType()) || event.payload() == null) return;
+        remember(User.normalize(event.payload().path("username").asText(null)),
+                User.normalize(event.payload().path("email").asText(null)));
+    }
+
+    private record Filters(BloomFilter usernames, BloomFilter emails) {}
+}
@@ -0,0 +1,45 @@
+package io.github.haroldbaes17.minecraftfacts.service;
+
+import io.github.haroldbaes17.minecraftfacts.dto.UserSummaryDTO;
+import io.github.haroldbaes17.minecraftfacts.exception.ResourceNotFoundException;
+import io.github.haroldbaes17.minecraftfacts.model.User;
+import io.github.haroldbaes17.minecraftfacts.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class UserService {
+
+    public static final int MAX_AUTOCOMPLETE = 20;
+
+    private final UserRepository userRepository;
+
+    /* ========= Lectura / búsqueda ========= */
+    public UserSummaryDTO findByUsername(String username) {
+        return userRepository.findByUsernameNormalized(User.normalize(username))
+                .map(UserSummaryDTO::fromEntity)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+    }
+
+    public UserSummaryDTO findByEmail(String email) {
+        return userRepository.findByEmailNormalized(User.normalize(email))
+                .map(UserSummaryDTO::fromEntity)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+    }
+
+    // Solo usernames: el endpoint es público y no debe exponer emails
+    public List<String> autocomplete(String q, int limit) {
+        String prefix = User.normalize(q);
+        if (prefix == null || prefix.isEmpty()) return List.of();
+
+        return userRepository.findByUsernameNormalizedStartingWithOrderByUsernameNormalizedAsc(
+                        prefix, Limit.of(Math.min(Math.max(limit, 1), MAX_AUTOCOMPLETE)))
+                .stream()
+                .map(UserRepository.UsernameOnly::getUsername)
+                .toList();
+    }
+}
@@ -0,0 +1,82 @@
+-- Esquema inicial, equivalente al generado por ddl-auto=update antes de introducir Flyway.
+-- Las bases existentes se marcan en esta versión (baseline-on-migrate) y no lo ejecutan:
+-- toda tabla nueva va en su propia migración.
+
+CREATE TABLE roles (
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    name        VARCHAR(50)  NOT NULL,
+    description VARCHAR(200),
+    deleted     BIT          NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_roles_name UNIQUE (name)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE users (
+    id             BIGINT       NOT NULL AUTO_INCREMENT,
+    username       VARCHAR(32)  NOT NULL,
+    email          VARCHAR(254) NOT NULL,
+    password_hash  VARCHAR(100) NOT NULL,
+    enabled        BIT          NOT NULL,
+    email_verified BIT          NOT NULL,
+    created_at     DATETIME(6)  NOT NULL,
+    updated_at     DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_username UNIQUE (username),
+    CONSTRAINT uk_users_email UNIQUE (email)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE user_roles (
+    user_id BIGINT NOT NULL,
+    role_id BIGINT NOT NULL,
+    PRIMARY KEY (user_id, role_id),
+    CONSTRAINT fk_user_roles_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_user_roles_role FOREIGN KEY (role_id) REFERENCES roles (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE categories (
+    id          BIGINT      NOT NULL AUTO_INCREMENT,
+    name        VARCHAR(60) NOT NULL,
+    slug        VARCHAR(64) NOT NULL,
+    description VARCHAR(200),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_categories_slug UNIQUE (slug)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE facts (
+    id         BIGINT        NOT NULL AUTO_INCREMENT,
+    title      VARCHAR(150)  NOT NULL,
+    content    VARCHAR(4000) NOT NULL,
+    image_url  VARCHAR(500)  NOT NULL,
+    source_url VARCHAR(500),
+    published  BIT           NOT NULL,
+    autor_id   BIGINT        NOT NULL,
+    created_at DATETIME(6)   NOT NULL,
+    updated_at DATETIME(6)   NOT NULL,
+    deleted    BIT           NOT NULL,
+    PRIMARY KEY (id),
+    INDEX idx_facts_title (title),
+    INDEX idx_facts_published (published),
+    CONSTRAINT fk_facts_author FOREIGN KEY (autor_id) REFERENCES users (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE fact_categories (
+    fact_id     BIGINT NOT NULL,
+    category_id BIGINT NOT NULL,
+    PRIMARY KEY (fact_id, category_id),
+    CONSTRAINT fk_fact_categories_fact FOREIGN KEY (fact_id) REFERENCES facts (id),
+    CONSTRAINT fk_fact_categories_category FOREIGN KEY (category_id) REFERENCES categories (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE refresh_tokens (
+    id         BIGINT       NOT NULL AUTO_INCREMENT,
+    token      VARCHAR(512) NOT NULL,
+    user_id    BIGINT       NOT NULL,
+    created_at DATETIME(6)  NOT NULL,
+    expires_at DATETIME(6)  NOT NULL,
+    revoked    BIT          NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_refresh_tokens_token UNIQUE (token),
+    INDEX idx_refresh_user (user_id),
+    INDEX idx_refresh_expires (expires_at),
+    CONSTRAINT fk_refresh_user FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
@@ -0,0 +1,12 @@
+-- Respuestas guardadas para Idempotency-Key (store = database).
+-- IF NOT EXISTS: en bases que venían de ddl-auto=update Hibernate ya pudo crearla.
+
+CREATE TABLE IF NOT EXISTS idempotency_keys (
+    idempotency_key VARCHAR(200) NOT NULL,
+    fingerprint     VARCHAR(64)  NOT NULL,
+    response_json   MEDIUMTEXT   NOT NULL,
+    created_at      DATETIME(6)  NOT NULL,
+    expires_at      DATETIME(6)  NOT NULL,
+    PRIMARY KEY (idempotency_key),
+    INDEX idx_idempotency_expires (expires_at)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
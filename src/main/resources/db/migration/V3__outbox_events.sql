@@ -0,0 +1,15 @@
+-- Outbox transaccional de cambios sobre roles, usuarios y datos curiosos.
+-- IF NOT EXISTS: en bases que venían de ddl-auto=update Hibernate ya pudo crearla.
+
+CREATE TABLE IF NOT EXISTS outbox_events (
+    id             BIGINT      NOT NULL AUTO_INCREMENT,
+    aggregate_type VARCHAR(32) NOT NULL,
+    aggregate_id   BIGINT      NOT NULL,
+    event_type     VARCHAR(32) NOT NULL,
+    payload        MEDIUMTEXT  NOT NULL,
+    created_at     DATETIME(6) NOT NULL,
+    published_at   DATETIME(6),
+    PRIMARY KEY (id),
+    INDEX idx_outbox_published (published_at, id),
+    INDEX idx_outbox_created (created_at)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
@@ -0,0 +1,24 @@
+-- Índices compuestos para consultas "solo activos" (filtro activeOnly).
+-- Condicionales: en bases que venían de ddl-auto=update Hibernate ya pudo crearlos.
+
+SET @exists := (SELECT COUNT(*) FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = 'roles' AND index_name = 'idx_roles_deleted_name');
+SET @ddl := IF(@exists = 0, 'CREATE INDEX idx_roles_deleted_name ON roles (deleted, name)', 'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @exists := (SELECT COUNT(*) FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = 'facts' AND index_name = 'idx_facts_published_deleted_created');
+SET @ddl := IF(@exists = 0, 'CREATE INDEX idx_facts_published_deleted_created ON facts (published, deleted, created_at)', 'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- Sustituido por idx_facts_published_deleted_created, del que es prefijo
+SET @exists := (SELECT COUNT(*) FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = 'facts' AND index_name = 'idx_facts_published');
+SET @ddl := IF(@exists > 0, 'DROP INDEX idx_facts_published ON facts', 'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
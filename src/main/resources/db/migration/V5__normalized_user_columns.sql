@@ -0,0 +1,18 @@
+-- Columnas en minúsculas para buscar usuarios sin depender de la collation
+-- y autocompletar por prefijo con índice.
+-- Si existen usuarios que solo difieren en mayúsculas, los índices únicos fallarán:
+-- resolver esos duplicados antes de migrar.
+
+ALTER TABLE users
+    ADD COLUMN username_normalized VARCHAR(32)  NULL,
+    ADD COLUMN email_normalized    VARCHAR(254) NULL;
+
+UPDATE users
+SET username_normalized = LOWER(TRIM(username)),
+    email_normalized    = LOWER(TRIM(email));
+
+ALTER TABLE users
+    MODIFY username_normalized VARCHAR(32)  NOT NULL,
+    MODIFY email_normalized    VARCHAR(254) NOT NULL,
+    ADD CONSTRAINT uk_users_username_normalized UNIQUE (username_normalized),
+    ADD CONSTRAINT uk_users_email_normalized UNIQUE (email_normalized);
@@ -0,0 +1,15 @@
+-- Número de usuarios por rol, mantenido por la aplicación al cambiar user_roles.
+-- Al borrar un rol definitivamente su contador desaparece con él.
+
+CREATE TABLE role_member_counts (
+    role_id      BIGINT NOT NULL,
+    member_count BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (role_id),
+    CONSTRAINT fk_role_member_counts_role FOREIGN KEY (role_id) REFERENCES roles (id) ON DELETE CASCADE
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+INSERT INTO role_member_counts (role_id, member_count)
+SELECT r.id, COUNT(ur.user_id)
+FROM roles r
+         LEFT JOIN user_roles ur ON ur.role_id = r.id
+GROUP BY r.id;
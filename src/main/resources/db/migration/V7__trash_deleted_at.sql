@@ -0,0 +1,13 @@
+-- Fecha de entrada en la papelera para roles y datos curiosos.
+-- Las filas ya borradas cuentan su retención desde esta migración.
+
+ALTER TABLE roles
+    ADD COLUMN deleted_at DATETIME(6) NULL,
+    ADD INDEX idx_roles_deleted_deleted_at (deleted, deleted_at);
+
+ALTER TABLE facts
+    ADD COLUMN deleted_at DATETIME(6) NULL,
+    ADD INDEX idx_facts_deleted_deleted_at (deleted, deleted_at);
+
+UPDATE roles SET deleted_at = NOW(6) WHERE deleted = true;
+UPDATE facts SET deleted_at = NOW(6) WHERE deleted = true;
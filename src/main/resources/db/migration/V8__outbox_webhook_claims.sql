@@ -0,0 +1,7 @@
+-- Reclamación de lotes para la entrega por webhook: el POST se hace fuera de la transacción
+-- que reclama las filas, así no retiene bloqueos ni una conexión del pool.
+
+ALTER TABLE outbox_events
+    ADD COLUMN claim_token   CHAR(36)    NULL,
+    ADD COLUMN claimed_until DATETIME(6) NULL,
+    ADD INDEX idx_outbox_claim_token (claim_token);
@@ -0,0 +1,43 @@
+package io.github.haroldbaes17.minecraftfacts.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static io.github.haroldbaes17.minecraftfacts.support.QueryCountAssertions.assertMaxQueries;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Número de sentencias SQL por petición en los endpoints de lectura de roles (detecta N+1).
+ * Necesita la BD local (DB_URL / DB_USER / DB_PASSWORD), así que lo ejecuta failsafe con
+ * {@code ./mvnw -Pit verify} y no surefire en {@code ./mvnw test}.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class RoleControllerQueryCountIT {
+
+    private static final String CONTEXT_PATH = "/v1/api";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void searchRunsTheQueryAndAtMostOneCount() throws Exception {
+        assertMaxQueries(2, () -> mockMvc.perform(get(CONTEXT_PATH + "/roles/search")
+                .contextPath(CONTEXT_PATH)
+                .param("q", "adm")
+                .param("prefix", "true")
+                .param("withTotal", "true")));
+    }
+
+    @Test
+    void listUsersByRolesDoesNotLoadPerUser() throws Exception {
+        // Roles + contadores + una página con IN (por debajo del umbral de fan-out)
+        assertMaxQueries(3, () -> mockMvc.perform(get(CONTEXT_PATH + "/roles/listUsersByRoles")
+                .contextPath(CONTEXT_PATH)
+                .param("roleIds", "1", "2")
+                .param("size", "50")));
+    }
+}
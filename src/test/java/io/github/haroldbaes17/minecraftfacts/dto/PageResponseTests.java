@@ -0,0 +1,59 @@
+package io.github.haroldbaes17.minecraftfacts.dto;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PageResponseTests {
+
+    @Test
+    void withoutTotalNothingIsCounted() {
+        PageResponse<String> page = PageResponse.of(new SliceImpl<>(List.of("a", "b"), PageRequest.of(0, 2), true), null);
+
+        assertThat(page.hasNext()).isTrue();
+        assertThat(page.totalElements()).isNull();
+        assertThat(page.totalPages()).isNull();
+    }
+
+    @Test
+    void incompleteFirstPageDerivesTheTotalWithoutCounting() {
+        AtomicInteger counts = new AtomicInteger();
+        LongSupplier total = () -> {
+            counts.incrementAndGet();
+            return 99;
+        };
+
+        PageResponse<String> page = PageResponse.of(new SliceImpl<>(List.of("a"), PageRequest.of(0, 10), false), total);
+
+        assertThat(counts).hasValue(0);
+        assertThat(page.totalElements()).isEqualTo(1L);
+        assertThat(page.totalPages()).isEqualTo(1);
+    }
+
+    @Test
+    void fullMiddlePageRunsTheCount() {
+        PageResponse<String> page = PageResponse.of(
+                new SliceImpl<>(List.of("c", "d"), PageRequest.of(1, 2), true), () -> 7);
+
+        assertThat(page.totalElements()).isEqualTo(7L);
+        assertThat(page.totalPages()).isEqualTo(4);
+        assertThat(page.hasNext()).isTrue();
+        assertThat(page.page()).isEqualTo(1);
+    }
+
+    @Test
+    void mapKeepsTheTotals() {
+        PageResponse<Integer> page = PageResponse.of(
+                new SliceImpl<>(List.of("a", "bb"), PageRequest.of(1, 2), true), () -> 5).map(String::length);
+
+        assertThat(page.content()).containsExactly(1, 2);
+        assertThat(page.totalElements()).isEqualTo(5L);
+        assertThat(page.totalPages()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,57 @@
+package io.github.haroldbaes17.minecraftfacts.filter;
+
+import io.github.haroldbaes17.minecraftfacts.config.RateLimitProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.time.Duration;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitFilterTests {
+
+    @Test
+    void missingBudgetsFallBackToDefaults() {
+        RateLimitProperties properties = new RateLimitProperties(true, 1000, Duration.ofMinutes(10), null, null, null, null);
+
+        assertThat(properties.read()).isNotNull();
+        assertThat(properties.write()).isNotNull();
+        assertThat(properties.bulk()).isNotNull();
+        assertThat(properties.apiKeys()).isEmpty();
+    }
+
+    @Test
+    void tierDependsOnPathAndMethod() {
+        assertThat(RateLimitFilter.tierOf(new MockHttpServletRequest("GET", "/v1/api/roles/findAll")))
+                .isEqualTo(RateLimitFilter.Tier.READ);
+        assertThat(RateLimitFilter.tierOf(new MockHttpServletRequest("POST", "/v1/api/roles/create")))
+                .isEqualTo(RateLimitFilter.Tier.WRITE);
+        assertThat(RateLimitFilter.tierOf(new MockHttpServletRequest("POST", "/v1/api/roles/bulk/delete")))
+                .isEqualTo(RateLimitFilter.Tier.BULK);
+        assertThat(RateLimitFilter.tierOf(new MockHttpServletRequest("POST", "/v1/api/roles/bulk/jobs/delete")))
+                .isEqualTo(RateLimitFilter.Tier.BULK);
+        // Consultar el estado de un job no consume presupuesto bulk
+        assertThat(RateLimitFilter.tierOf(new MockHttpServletRequest("GET", "/v1/api/roles/bulk/jobs/abc")))
+                .isEqualTo(RateLimitFilter.Tier.READ);
+    }
+
+    @Test
+    void clientKeyPrefersKnownApiKeyOverAddress() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/api/roles/findAll");
+        request.setRemoteAddr("203.0.113.7");
+        assertThat(RateLimitFilter.clientKey(request, Set.of("abc"))).isEqualTo("ip:203.0.113.7");
+
+        request.addHeader(RateLimitFilter.API_KEY_HEADER, "abc");
+        assertThat(RateLimitFilter.clientKey(request, Set.of("abc"))).isEqualTo("key:abc");
+    }
+
+    @Test
+    void unknownApiKeyIsLimitedByAddress() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/api/roles/findAll");
+        request.setRemoteAddr("203.0.113.7");
+        request.addHeader(RateLimitFilter.API_KEY_HEADER, "random-" + System.nanoTime());
+
+        assertThat(RateLimitFilter.clientKey(request, Set.of("abc"))).isEqualTo("ip:203.0.113.7");
+    }
+}
@@ -0,0 +1,50 @@
+package io.github.haroldbaes17.minecraftfacts.filter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTests {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void allowsBurstUpToCapacityThenRejectsWithWait() {
+        TokenBucket bucket = new TokenBucket(3, 1);
+        long now = 10 * SECOND;
+
+        assertThat(bucket.tryConsume(now)).isEqualTo(2);
+        assertThat(bucket.tryConsume(now)).isEqualTo(1);
+        assertThat(bucket.tryConsume(now)).isEqualTo(0);
+
+        long rejected = bucket.tryConsume(now);
+        assertThat(rejected).isNegative();
+        assertThat(-(rejected + 1)).isEqualTo(SECOND);
+    }
+
+    @Test
+    void refillsAtConfiguredRate() {
+        TokenBucket bucket = new TokenBucket(2, 2);
+        long now = 0;
+        bucket.tryConsume(now);
+        bucket.tryConsume(now);
+        assertThat(bucket.tryConsume(now)).isNegative();
+
+        // 2 tokens/s: medio segundo recupera uno
+        assertThat(bucket.tryConsume(now + SECOND / 2)).isEqualTo(0);
+        assertThat(bucket.tryConsume(now + SECOND / 2)).isNegative();
+    }
+
+    @Test
+    void idleBucketDoesNotAccumulateBeyondCapacity() {
+        TokenBucket bucket = new TokenBucket(2, 1);
+        bucket.tryConsume(0);
+
+        long later = 60 * SECOND;
+        assertThat(bucket.tryConsume(later)).isEqualTo(1);
+        assertThat(bucket.tryConsume(later)).isEqualTo(0);
+        assertThat(bucket.tryConsume(later)).isNegative();
+    }
+}
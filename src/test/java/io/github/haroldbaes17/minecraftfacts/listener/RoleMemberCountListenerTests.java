@@ -0,0 +1,91 @@
+package io.github.haroldbaes17.minecraftfacts.listener;
+
+import io.github.haroldbaes17.minecraftfacts.model.User;
+import io.github.haroldbaes17.minecraftfacts.service.RoleMemberCountService;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.event.spi.AbstractCollectionEvent;
+import org.hibernate.event.spi.PostCollectionRecreateEvent;
+import org.hibernate.event.spi.PostCollectionUpdateEvent;
+import org.hibernate.event.spi.PreCollectionRemoveEvent;
+import org.hibernate.event.spi.PreCollectionUpdateEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// Los eventos son mocks sin sesión (EventSource no se puede simular con Mockito): el listener solo la
+// reenvía al servicio, así que se comprueban los ids
+class RoleMemberCountListenerTests {
+
+    private final RoleMemberCountService service = mock(RoleMemberCountService.class);
+    private final RoleMemberCountListener listener = new RoleMemberCountListener(provider(service));
+
+    @Test
+    void updateAppliesTheDifferenceBetweenPreAndPostRows() {
+        PersistentCollection<?> roles = collection(User.class.getName() + ".roles");
+        when(service.memberRoleIds(any(), eq(7L))).thenReturn(List.of(1L, 2L), List.of(2L, 3L));
+
+        listener.onPreUpdateCollection(event(PreCollectionUpdateEvent.class, roles, 7L));
+        listener.onPostUpdateCollection(event(PostCollectionUpdateEvent.class, roles, 7L));
+
+        verify(service).apply(any(), eq(List.of(1L, 2L)), eq(List.of(2L, 3L)));
+    }
+
+    @Test
+    void recreateCountsEveryRowAsAdded() {
+        PersistentCollection<?> roles = collection(User.class.getName() + ".roles");
+        when(service.memberRoleIds(any(), eq(7L))).thenReturn(List.of(4L));
+
+        listener.onPostRecreateCollection(event(PostCollectionRecreateEvent.class, roles, 7L));
+
+        verify(service).apply(any(), eq(List.of()), eq(List.of(4L)));
+    }
+
+    @Test
+    void removeCountsEveryRowAsRemoved() {
+        PersistentCollection<?> roles = collection(User.class.getName() + ".roles");
+        when(service.memberRoleIds(any(), eq(7L))).thenReturn(List.of(4L, 5L));
+
+        listener.onPreRemoveCollection(event(PreCollectionRemoveEvent.class, roles, 7L));
+
+        verify(service).apply(any(), eq(List.of(4L, 5L)), eq(List.of()));
+    }
+
+    @Test
+    void otherCollectionsAreIgnored() {
+        PersistentCollection<?> categories = collection("io.github.haroldbaes17.minecraftfacts.model.Fact.categories");
+
+        listener.onPostRecreateCollection(event(PostCollectionRecreateEvent.class, categories, 7L));
+
+        verify(service, never()).memberRoleIds(any(), anyLong());
+        verify(service, never()).apply(any(), any(), any());
+    }
+
+    private static PersistentCollection<?> collection(String role) {
+        PersistentCollection<?> collection = mock(PersistentCollection.class);
+        when(collection.getRole()).thenReturn(role);
+        return collection;
+    }
+
+    private <E extends AbstractCollectionEvent> E event(Class<E> type, PersistentCollection<?> collection, Long ownerId) {
+        E event = mock(type);
+        when(event.getCollection()).thenAnswer(inv -> collection);
+        when(event.getAffectedOwnerIdOrNull()).thenReturn(ownerId);
+        return event;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ObjectProvider<RoleMemberCountService> provider(RoleMemberCountService service) {
+        ObjectProvider<RoleMemberCountService> provider = mock(ObjectProvider.class);
+        when(provider.getObject()).thenReturn(service);
+        return provider;
+    }
+}
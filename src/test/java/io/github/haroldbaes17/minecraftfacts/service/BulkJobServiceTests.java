@@ -0,0 +1,111 @@
+package io.github.haroldbaes17.minecraftfacts.service;
+
+import io.github.haroldbaes17.minecraftfacts.config.BulkJobProperties;
+import io.github.haroldbaes17.minecraftfacts.dto.RoleDTO.BulkDeleteRolesRequest;
+import io.github.haroldbaes17.minecraftfacts.dto.RoleDTO.BulkDeleteRolesResponse;
+import io.github.haroldbaes17.minecraftfacts.dto.RoleDTO.BulkDeleteSkipped;
+import io.github.haroldbaes17.minecraftfacts.dto.RoleDTO.BulkJobResponse;
+import io.github.haroldbaes17.minecraftfacts.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BulkJobServiceTests {
+
+    private final RoleService roleService = mock(RoleService.class);
+    private final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    private final List<List<Long>> chunks = new ArrayList<>();
+
+    BulkJobServiceTests() {
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.initialize();
+    }
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void processesUniqueIdsInChunksAndCompletes() throws Exception {
+        when(roleService.bulkDelete(any())).thenAnswer(inv -> {
+            List<Long> ids = inv.<BulkDeleteRolesRequest>getArgument(0).ids();
+            chunks.add(ids);
+            List<BulkDeleteSkipped> skipped = ids.contains(3L)
+                    ? List.of(new BulkDeleteSkipped(3L, "ROLE_X", "IN_USE")) : List.of();
+            return new BulkDeleteRolesResponse(ids.size(), ids.size() - skipped.size(), List.of(), skipped);
+        });
+        BulkJobService service = new BulkJobService(roleService, executor, properties(Duration.ofHours(1)));
+
+        BulkJobResponse submitted = service.submitDelete(new BulkDeleteRolesRequest(Arrays.asList(1L, 1L, 2L, null, 3L)));
+        assertThat(submitted.requested()).isEqualTo(5);
+        assertThat(submitted.total()).isEqualTo(3);
+
+        awaitIdle();
+        BulkJobResponse done = service.get(submitted.id());
+        assertThat(chunks).containsExactly(List.of(1L, 2L), List.of(3L));
+        assertThat(done.status()).isEqualTo("COMPLETED");
+        assertThat(done.processed()).isEqualTo(3);
+        assertThat(done.succeeded()).isEqualTo(2);
+        assertThat(done.deleteSkipped()).extracting(BulkDeleteSkipped::id).containsExactly(3L);
+        assertThat(done.finishedAt()).isNotNull();
+    }
+
+    @Test
+    void runningJobIsVisibleEvenAfterRetentionElapses() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(roleService.bulkDelete(any())).thenAnswer(inv -> {
+            release.await(5, TimeUnit.SECONDS);
+            return new BulkDeleteRolesResponse(1, 1, List.of(), List.of());
+        });
+        BulkJobService service = new BulkJobService(roleService, executor, properties(Duration.ofMillis(1)));
+
+        BulkJobResponse submitted = service.submitDelete(new BulkDeleteRolesRequest(List.of(1L)));
+        Thread.sleep(20);
+        assertThat(service.get(submitted.id()).status()).isIn("QUEUED", "RUNNING");
+
+        release.countDown();
+    }
+
+    @Test
+    void failedChunkMarksJobFailed() throws Exception {
+        when(roleService.bulkDelete(any())).thenThrow(new IllegalStateException("db down"));
+        BulkJobService service = new BulkJobService(roleService, executor, properties(Duration.ofHours(1)));
+
+        BulkJobResponse submitted = service.submitDelete(new BulkDeleteRolesRequest(List.of(1L)));
+        awaitIdle();
+
+        BulkJobResponse done = service.get(submitted.id());
+        assertThat(done.status()).isEqualTo("FAILED");
+        assertThat(done.error()).isEqualTo("db down");
+    }
+
+    @Test
+    void unknownJobIsNotFound() {
+        BulkJobService service = new BulkJobService(roleService, executor, properties(Duration.ofHours(1)));
+        assertThatThrownBy(() -> service.get("missing")).isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    private static BulkJobProperties properties(Duration retention) {
+        return new BulkJobProperties(2, 1, 10, retention, 100);
+    }
+
+    private void awaitIdle() throws InterruptedException {
+        executor.getThreadPoolExecutor().shutdown();
+        assertThat(executor.getThreadPoolExecutor().awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+    }
+}
@@ -0,0 +1,71 @@
+package io.github.haroldbaes17.minecraftfacts.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.haroldbaes17.minecraftfacts.config.IdempotencyProperties;
+import io.github.haroldbaes17.minecraftfacts.exception.IdempotencyKeyReuseException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IdempotencyServiceTests {
+
+    private final IdempotencyProperties properties =
+            new IdempotencyProperties("memory", Duration.ofHours(1), 100, Duration.ofSeconds(1));
+    private final IdempotencyService service = new IdempotencyService(
+            new InMemoryIdempotencyStore(properties), properties, new ObjectMapper());
+
+    record Result(long id, String name) {}
+
+    @Test
+    void retryWithSameKeyReplaysStoredResponse() {
+        AtomicInteger executions = new AtomicInteger();
+        Map<String, String> request = Map.of("name", "ROLE_ADMIN");
+
+        Result first = service.execute("k1", "roles.create", request, Result.class,
+                () -> new Result(executions.incrementAndGet(), "ROLE_ADMIN"));
+        Result second = service.execute("k1", "roles.create", request, Result.class,
+                () -> new Result(executions.incrementAndGet(), "ROLE_ADMIN"));
+
+        assertThat(executions).hasValue(1);
+        assertThat(second).isEqualTo(first);
+    }
+
+    @Test
+    void sameKeyWithDifferentBodyIsRejected() {
+        service.execute("k2", "roles.create", Map.of("name", "ROLE_A"), Result.class, () -> new Result(1, "ROLE_A"));
+
+        assertThatThrownBy(() -> service.execute("k2", "roles.create", Map.of("name", "ROLE_B"), Result.class,
+                () -> new Result(2, "ROLE_B")))
+                .isInstanceOf(IdempotencyKeyReuseException.class);
+    }
+
+    @Test
+    void failedExecutionIsNotStored() {
+        AtomicInteger executions = new AtomicInteger();
+        assertThatThrownBy(() -> service.execute("k3", "roles.create", Map.of(), Result.class, () -> {
+            executions.incrementAndGet();
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+
+        Result retried = service.execute("k3", "roles.create", Map.of(), Result.class,
+                () -> new Result(executions.incrementAndGet(), "ok"));
+
+        assertThat(retried.id()).isEqualTo(2);
+    }
+
+    @Test
+    void scopesAndMissingKeysAreIndependent() {
+        AtomicInteger executions = new AtomicInteger();
+        service.execute("k4", "roles.bulk.delete", Map.of(), Result.class, () -> new Result(executions.incrementAndGet(), "a"));
+        service.execute("k4", "roles.bulk.restore", Map.of(), Result.class, () -> new Result(executions.incrementAndGet(), "b"));
+        service.execute(null, "roles.create", Map.of(), Result.class, () -> new Result(executions.incrementAndGet(), "c"));
+        service.execute(null, "roles.create", Map.of(), Result.class, () -> new Result(executions.incrementAndGet(), "c"));
+
+        assertThat(executions).hasValue(4);
+    }
+}
@@ -0,0 +1,50 @@
+package io.github.haroldbaes17.minecraftfacts.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InClauseChunksTests {
+
+    @Test
+    void chunksDeduplicateAndKeepFirstSeenOrder() {
+        assertThat(InClauseChunks.chunks(List.of(3L, 1L, 3L, 2L, 1L)))
+                .containsExactly(List.of(3L, 1L, 2L));
+    }
+
+    @Test
+    void chunksSplitAtMaxChunk() {
+        List<Long> ids = LongStream.range(0, InClauseChunks.MAX_CHUNK * 2L + 5).boxed().toList();
+
+        List<List<Long>> chunks = InClauseChunks.chunks(ids);
+
+        assertThat(chunks).extracting(List::size)
+                .containsExactly(InClauseChunks.MAX_CHUNK, InClauseChunks.MAX_CHUNK, 5);
+        assertThat(chunks.stream().flatMap(List::stream).toList()).isEqualTo(ids);
+    }
+
+    @Test
+    void emptyInputRunsNoQuery() {
+        List<List<Long>> calls = new ArrayList<>();
+
+        List<Long> result = InClauseChunks.list(List.<Long>of(), chunk -> {
+            calls.add(chunk);
+            return chunk;
+        });
+
+        assertThat(result).isEmpty();
+        assertThat(calls).isEmpty();
+    }
+
+    @Test
+    void listAndSetCollectResultsOfEveryChunk() {
+        List<Long> ids = LongStream.range(0, InClauseChunks.MAX_CHUNK + 1L).boxed().toList();
+
+        assertThat(InClauseChunks.list(ids, chunk -> chunk)).hasSize(ids.size());
+        assertThat(InClauseChunks.set(ids, chunk -> List.of(chunk.size()))).containsExactlyInAnyOrder(InClauseChunks.MAX_CHUNK, 1);
+    }
+}
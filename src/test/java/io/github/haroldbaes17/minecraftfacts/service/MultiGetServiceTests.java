@@ -0,0 +1,97 @@
+package io.github.haroldbaes17.minecraftfacts.service;
+
+import io.github.haroldbaes17.minecraftfacts.config.MultiGetProperties;
+import io.github.haroldbaes17.minecraftfacts.dto.FactDTO.FactResponse;
+import io.github.haroldbaes17.minecraftfacts.dto.MultiGetResponse;
+import io.github.haroldbaes17.minecraftfacts.dto.RoleDTO.RoleResponse;
+import io.github.haroldbaes17.minecraftfacts.model.Fact;
+import io.github.haroldbaes17.minecraftfacts.model.Role;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolationException;
+import org.hibernate.MultiIdentifierLoadAccess;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MultiGetServiceTests {
+
+    private final Session session = mock(Session.class);
+    private final MultiGetService service = new MultiGetService(entityManager(session), new MultiGetProperties(3, 64));
+
+    @Test
+    void itemsFollowTheRequestedOrderWithMissingMarkers() {
+        MultiIdentifierLoadAccess<Role> access = access(Role.class);
+        // multiLoad sin orden: las entidades llegan en cualquier orden
+        when(access.multiLoad(anyList())).thenReturn(List.of(role(3L, "ROLE_MOD"), role(1L, "ROLE_ADMIN")));
+
+        MultiGetResponse<RoleResponse> response = service.roles(List.of(3L, 2L, 1L));
+
+        assertThat(response.requested()).isEqualTo(3);
+        assertThat(response.found()).isEqualTo(2);
+        assertThat(response.items()).extracting(MultiGetResponse.Item::id).containsExactly(3L, 2L, 1L);
+        assertThat(response.items()).extracting(MultiGetResponse.Item::found).containsExactly(true, false, true);
+        assertThat(response.items().get(1).value()).isNull();
+        assertThat(response.items().get(2).value().name()).isEqualTo("ROLE_ADMIN");
+    }
+
+    @Test
+    void duplicatesAreLoadedOnceButAnsweredPerRequest() {
+        MultiIdentifierLoadAccess<Role> access = access(Role.class);
+        when(access.multiLoad(anyList())).thenReturn(List.of(role(1L, "ROLE_ADMIN")));
+
+        MultiGetResponse<RoleResponse> response = service.roles(List.of(1L, 1L));
+
+        verify(access).multiLoad(List.of(1L));
+        assertThat(response.found()).isEqualTo(2);
+        assertThat(response.items()).extracting(MultiGetResponse.Item::id).containsExactly(1L, 1L);
+    }
+
+    @Test
+    void hiddenFactsAndNullEntriesCountAsMissing() {
+        MultiIdentifierLoadAccess<Fact> access = access(Fact.class);
+        Fact published = Fact.builder().id(1L).title("Creepers").published(true).build();
+        Fact draft = Fact.builder().id(2L).title("Draft").published(false).build();
+        when(access.multiLoad(anyList())).thenReturn(Arrays.asList(published, draft, null));
+
+        MultiGetResponse<FactResponse> response = service.facts(List.of(1L, 2L, 3L));
+
+        assertThat(response.found()).isEqualTo(1);
+        assertThat(response.items()).extracting(MultiGetResponse.Item::found).containsExactly(true, false, false);
+    }
+
+    @Test
+    void tooManyIdsAreRejected() {
+        assertThatThrownBy(() -> service.roles(List.of(1L, 2L, 3L, 4L)))
+                .isInstanceOf(ConstraintViolationException.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <E> MultiIdentifierLoadAccess<E> access(Class<E> type) {
+        MultiIdentifierLoadAccess<E> access = mock(MultiIdentifierLoadAccess.class);
+        when(access.withBatchSize(anyInt())).thenReturn(access);
+        when(access.enableOrderedReturn(anyBoolean())).thenReturn(access);
+        when(session.byMultipleIds(type)).thenReturn(access);
+        return access;
+    }
+
+    private static Role role(Long id, String name) {
+        return Role.builder().id(id).name(name).build();
+    }
+
+    private static EntityManager entityManager(Session session) {
+        EntityManager entityManager = mock(EntityManager.class);
+        when(entityManager.unwrap(Session.class)).thenReturn(session);
+        return entityManager;
+    }
+}
@@ -0,0 +1,78 @@
+package io.github.haroldbaes17.minecraftfacts.service;
+
+import io.github.haroldbaes17.minecraftfacts.model.Fact;
+import io.github.haroldbaes17.minecraftfacts.repository.FactRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RandomFactServiceTests {
+
+    private final FactRepository factRepository = mock(FactRepository.class);
+    private final RandomFactService service = new RandomFactService(factRepository);
+
+    @Test
+    void reloadKeepsChangesCommittedWhileReadingTheSnapshot() {
+        when(factRepository.findEligibleIds()).thenAnswer(inv -> {
+            // Llegan mientras se lee la BD: la lectura ya no los incluye
+            service.onFactSaved(3L, true, new long[]{7L});
+            service.onFactRemoved(1L);
+            return new ArrayList<>(List.of(1L, 2L));
+        });
+        when(factRepository.findEligibleIdCategoryPairs()).thenReturn(List.of());
+
+        service.reload();
+
+        assertThat(service.isLoaded()).isTrue();
+        // 3 llegó durante la lectura y 1 se borró: la lectura devolvió {1, 2}
+        assertThat(service.eligibleIds()).containsExactly(2L, 3L);
+    }
+
+    @Test
+    void categoriesAddedDuringReloadAreKept() {
+        when(factRepository.findEligibleIds()).thenAnswer(inv -> {
+            service.onFactSaved(3L, true, new long[]{7L});
+            return new ArrayList<>(List.of(2L));
+        });
+        when(factRepository.findEligibleIdCategoryPairs()).thenReturn(List.of());
+        Fact fact = Fact.builder().id(3L).title("Creepers").published(true).build();
+        when(factRepository.findById(3L)).thenReturn(Optional.of(fact));
+
+        service.reload();
+
+        // La categoría 7 solo contiene el dato añadido durante la recarga
+        assertThat(service.random(7L).id()).isEqualTo(3L);
+    }
+
+    @Test
+    void incrementalUpdatesApplyAfterLoad() {
+        when(factRepository.findEligibleIds()).thenReturn(List.of(1L, 2L));
+        when(factRepository.findEligibleIdCategoryPairs()).thenReturn(List.of());
+        service.reload();
+
+        service.onFactSaved(3L, true, new long[0]);
+        // Sin publicar o borrado: sale del índice
+        service.onFactSaved(2L, false, new long[0]);
+
+        assertThat(service.eligibleIds()).containsExactly(1L, 3L);
+    }
+
+    @Test
+    void denseIdSetSwapsLastOnRemove() {
+        RandomFactService.DenseIdSet ids = new RandomFactService.DenseIdSet();
+        for (long id = 1; id <= 20; id++) ids.add(id);
+        ids.add(5L);
+        ids.remove(1L);
+        ids.remove(99L);
+
+        assertThat(ids.size()).isEqualTo(19);
+        assertThat(ids.get(0)).isEqualTo(20L);
+        assertThat(ids.sortedCopy()).startsWith(2L, 3L).endsWith(20L);
+    }
+}
@@ -0,0 +1,87 @@
+package io.github.haroldbaes17.minecraftfacts.service;
+
+import io.github.haroldbaes17.minecraftfacts.config.RoleUsersProperties;
+import io.github.haroldbaes17.minecraftfacts.dto.MultiGetResponse;
+import io.github.haroldbaes17.minecraftfacts.dto.RoleDTO.MultiRoleUsersResponse;
+import io.github.haroldbaes17.minecraftfacts.dto.RoleDTO.RoleResponse;
+import io.github.haroldbaes17.minecraftfacts.dto.RoleDTO.RoleUserCount;
+import io.github.haroldbaes17.minecraftfacts.exception.ResourceNotFoundException;
+import io.github.haroldbaes17.minecraftfacts.model.User;
+import io.github.haroldbaes17.minecraftfacts.repository.UserRepository;
+import jakarta.validation.ConstraintViolationException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.Semaphore;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class RoleMembershipServiceTests {
+
+    private final MultiGetService multiGetService = mock(MultiGetService.class);
+    private final RoleMembershipService service = new RoleMembershipService(multiGetService, mock(UserRepository.class),
+            mock(RoleMemberCountService.class), new RoleUsersProperties(50, 4, 8, 1000), new Semaphore(8));
+
+    @Test
+    void mergeInterleavesByUsernameAndDropsDuplicates() {
+        List<User> admins = List.of(user(1, "alex"), user(3, "herobrine"), user(4, "steve"));
+        List<User> mods = List.of(user(2, "creeper"), user(3, "herobrine"), user(5, "zombie"));
+
+        List<User> merged = RoleMembershipService.merge(List.of(admins, mods, List.of()), 10);
+
+        assertThat(merged).extracting(User::getId).containsExactly(1L, 2L, 3L, 4L, 5L);
+    }
+
+    @Test
+    void mergeStopsAtTheLimit() {
+        List<User> a = List.of(user(1, "a"), user(3, "c"));
+        List<User> b = List.of(user(2, "b"), user(4, "d"));
+
+        assertThat(RoleMembershipService.merge(List.of(a, b), 3))
+                .extracting(User::getUsernameNormalized)
+                .containsExactly("a", "b", "c");
+    }
+
+    @Test
+    void hugePageIsRejectedInsteadOfOverflowing() {
+        assertThatThrownBy(() -> service.listUsersByRoles(List.of(1L), Integer.MAX_VALUE, Integer.MAX_VALUE))
+                .isInstanceOf(ConstraintViolationException.class)
+                .hasMessageContaining("Page too deep");
+        verifyNoInteractions(multiGetService);
+    }
+
+    @Test
+    void deepPageWithinIntRangeIsRejected() {
+        assertThatThrownBy(() -> service.listUsersByRoles(List.of(1L), 10, 100))
+                .isInstanceOf(ConstraintViolationException.class);
+    }
+
+    @Test
+    void trashedRolesAreAcceptedLikeFindById() {
+        RoleResponse trashed = new RoleResponse(1L, "ROLE_OLD", null, true, null);
+        when(multiGetService.roles(List.of(1L))).thenReturn(new MultiGetResponse<>(1, 1,
+                List.of(new MultiGetResponse.Item<>(1L, true, trashed))));
+
+        MultiRoleUsersResponse response = service.listUsersByRoles(List.of(1L), 0, 20);
+
+        assertThat(response.roles()).extracting(RoleUserCount::name).containsExactly("ROLE_OLD");
+    }
+
+    @Test
+    void unknownRolesAreNotFound() {
+        when(multiGetService.roles(List.of(1L, 2L))).thenReturn(new MultiGetResponse<>(2, 0, List.of(
+                new MultiGetResponse.Item<>(1L, false, null), new MultiGetResponse.Item<>(2L, false, null))));
+
+        assertThatThrownBy(() -> service.listUsersByRoles(List.of(1L, 2L), 0, 20))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessageContaining("[1, 2]");
+    }
+
+    private static User user(long id, String username) {
+        return User.builder().id(id).username(username).usernameNormalized(username).build();
+    }
+}
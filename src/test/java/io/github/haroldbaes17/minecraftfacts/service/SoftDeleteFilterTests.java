@@ -0,0 +1,57 @@
+package io.github.haroldbaes17.minecraftfacts.service;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.Filter;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SoftDeleteFilterTests {
+
+    private final Session session = mock(Session.class);
+    private final SoftDeleteFilter filter = new SoftDeleteFilter(entityManager(session));
+
+    @Test
+    void disablesTheFilterOnlyDuringTheAction() {
+        when(session.getEnabledFilter(SoftDeleteFilter.NAME)).thenReturn(mock(Filter.class));
+
+        String result = filter.withDeleted(() -> "rows");
+
+        assertThat(result).isEqualTo("rows");
+        var order = inOrder(session);
+        order.verify(session).disableFilter(SoftDeleteFilter.NAME);
+        order.verify(session).enableFilter(SoftDeleteFilter.NAME);
+    }
+
+    @Test
+    void reEnablesTheFilterWhenTheActionFails() {
+        when(session.getEnabledFilter(SoftDeleteFilter.NAME)).thenReturn(mock(Filter.class));
+
+        assertThatThrownBy(() -> filter.withDeleted(() -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+
+        verify(session).enableFilter(SoftDeleteFilter.NAME);
+    }
+
+    @Test
+    void leavesADisabledFilterAlone() {
+        filter.withDeleted(() -> null);
+
+        verify(session, never()).disableFilter(SoftDeleteFilter.NAME);
+        verify(session, never()).enableFilter(SoftDeleteFilter.NAME);
+    }
+
+    private static EntityManager entityManager(Session session) {
+        EntityManager entityManager = mock(EntityManager.class);
+        when(entityManager.unwrap(Session.class)).thenReturn(session);
+        return entityManager;
+    }
+}
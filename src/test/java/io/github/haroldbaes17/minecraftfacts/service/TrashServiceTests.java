@@ -0,0 +1,101 @@
+package io.github.haroldbaes17.minecraftfacts.service;
+
+import io.github.haroldbaes17.minecraftfacts.config.TrashProperties;
+import io.github.haroldbaes17.minecraftfacts.repository.FactRepository;
+import io.github.haroldbaes17.minecraftfacts.repository.RoleRepository;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class TrashServiceTests {
+
+    private final RoleRepository roleRepository = mock(RoleRepository.class);
+    private final FactRepository factRepository = mock(FactRepository.class);
+    private final OutboxService outboxService = mock(OutboxService.class);
+    private final EntityManager entityManager = mock(EntityManager.class);
+    private final EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+    private final NamedLock namedLock = mock(NamedLock.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final Session session = mock(Session.class);
+
+    private final TrashService service = new TrashService(roleRepository, factRepository,
+            mock(SoftDeleteFilter.class), outboxService, entityManager, entityManagerFactory,
+            new TrashProperties(Duration.ofDays(30), 2, Duration.ZERO, Duration.ofMinutes(1)),
+            namedLock, transactionManager);
+
+    @BeforeEach
+    void setUp() {
+        when(entityManager.unwrap(Session.class)).thenReturn(session);
+        when(entityManagerFactory.getCache()).thenReturn(mock(Cache.class));
+        SessionFactory sessionFactory = mock(SessionFactory.class);
+        when(sessionFactory.getCache()).thenReturn(mock(org.hibernate.Cache.class));
+        when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+        when(transactionManager.getTransaction(any())).thenAnswer(inv -> new SimpleTransactionStatus());
+        when(namedLock.runExclusively(anyString(), any())).thenAnswer(inv -> {
+            inv.<Runnable>getArgument(1).run();
+            return true;
+        });
+    }
+
+    @Test
+    void emitsOneDeletedEventPerPurgedRow() {
+        when(factRepository.findPurgeableIds(any(), anyInt())).thenReturn(List.of(1L, 2L), List.of());
+        when(factRepository.purgeByIds(List.of(1L, 2L))).thenReturn(2);
+        when(roleRepository.findPurgeableIds(any(), anyInt())).thenReturn(List.of(9L), List.of());
+        when(roleRepository.purgeByIds(List.of(9L))).thenReturn(1);
+
+        service.purgeExpired();
+
+        verify(factRepository).purgeCategoryLinks(List.of(1L, 2L));
+        verify(outboxService).append(session, "FACT", 1L, "DELETED", Map.of("id", 1L));
+        verify(outboxService).append(session, "FACT", 2L, "DELETED", Map.of("id", 2L));
+        verify(outboxService).append(session, "ROLE", 9L, "DELETED", Map.of("id", 9L));
+    }
+
+    @Test
+    void batchThatDeletesFewerRowsThanSelectedEmitsNothing() {
+        when(factRepository.findPurgeableIds(any(), anyInt())).thenReturn(List.of(1L, 2L));
+        when(factRepository.purgeByIds(List.of(1L, 2L))).thenReturn(1);
+        when(roleRepository.findPurgeableIds(any(), anyInt())).thenReturn(List.of());
+
+        service.purgeExpired();
+
+        verify(outboxService, never()).append(any(), anyString(), anyLong(), anyString(), any());
+        // TransactionTemplate confirma con el estado marcado; el gestor hace rollback
+        verify(transactionManager).commit(argThat(TransactionStatus::isRollbackOnly));
+    }
+
+    @Test
+    void skipsWhenAnotherInstanceHoldsTheLock() {
+        doReturn(false).when(namedLock).runExclusively(anyString(), any());
+
+        service.purgeExpired();
+
+        verifyNoInteractions(factRepository, roleRepository, outboxService);
+        verify(namedLock).runExclusively(eq("minecraft-facts.trash-purge"), any());
+    }
+}
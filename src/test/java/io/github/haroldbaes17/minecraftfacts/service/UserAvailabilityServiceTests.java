@@ -0,0 +1,48 @@
+package io.github.haroldbaes17.minecraftfacts.service;
+
+import io.github.haroldbaes17.minecraftfacts.config.UserAvailabilityProperties;
+import io.github.haroldbaes17.minecraftfacts.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserAvailabilityServiceTests {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final UserAvailabilityService service = new UserAvailabilityService(userRepository,
+            mock(PlatformTransactionManager.class), new UserAvailabilityProperties(0.01, "0 0 4 * * *"));
+
+    @Test
+    void valuesRememberedDuringRebuildSurviveTheSwap() {
+        when(userRepository.streamNormalizedIdentities()).thenAnswer(inv -> {
+            // Alta confirmada mientras se lee la tabla: la lectura ya no la incluye
+            service.remember("alex", "alex@example.com");
+            return Stream.<Object[]>of(new Object[]{"steve", "steve@example.com"});
+        });
+        when(userRepository.existsByUsernameNormalized(anyString())).thenReturn(true);
+
+        service.rebuild();
+
+        assertThat(service.isReady()).isTrue();
+        assertThat(service.isUsernameAvailable("alex")).isFalse();
+        assertThat(service.isUsernameAvailable("Steve")).isFalse();
+    }
+
+    @Test
+    void unknownValuesAreAvailableWithoutQuerying() {
+        when(userRepository.streamNormalizedIdentities())
+                .thenReturn(Stream.<Object[]>of(new Object[]{"steve", "steve@example.com"}));
+        service.rebuild();
+
+        assertThat(service.isUsernameAvailable("herobrine")).isTrue();
+        verify(userRepository, never()).existsByUsernameNormalized("herobrine");
+    }
+}
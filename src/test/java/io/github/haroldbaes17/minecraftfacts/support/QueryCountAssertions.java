@@ -0,0 +1,43 @@
+package io.github.haroldbaes17.minecraftfacts.support;
+
+import io.github.haroldbaes17.minecraftfacts.filter.QueryStats;
+
+/**
+ * Falla si un bloque ejecuta más sentencias SQL de las esperadas. Pensado para detectar N+1 en
+ * tests con MockMvc o llamando a servicios directamente:
+ * <pre>{@code
+ * QueryCountAssertions.assertMaxQueries(2, () -> mockMvc.perform(get("/v1/api/roles/search?q=adm")));
+ * }</pre>
+ * Requiere el contexto completo (el DataSource va envuelto por datasource-proxy).
+ */
+public final class QueryCountAssertions {
+
+    private static final int MAX_REPORTED = 50;
+
+    @FunctionalInterface
+    public interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+
+    private QueryCountAssertions() {
+    }
+
+    public static QueryStats assertMaxQueries(int max, ThrowingRunnable action) throws Exception {
+        QueryStats stats = count(action);
+        if (stats.statements() > max) {
+            throw new AssertionError("Expected at most " + max + " SQL statements but " + stats.statements()
+                    + " were executed:\n  " + String.join("\n  ", stats.sql()));
+        }
+        return stats;
+    }
+
+    public static QueryStats count(ThrowingRunnable action) throws Exception {
+        QueryStats stats = QueryStats.open(MAX_REPORTED);
+        try {
+            action.run();
+        } finally {
+            stats.close();
+        }
+        return stats;
+    }
+}